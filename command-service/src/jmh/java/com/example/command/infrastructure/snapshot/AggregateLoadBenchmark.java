@@ -0,0 +1,100 @@
+package com.example.command.infrastructure.snapshot;
+
+import com.example.command.domain.warrior.Warrior;
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+import com.example.shared.events.DomainEvent;
+import com.example.shared.events.WarriorCreatedEvent;
+import com.example.shared.events.codec.DomainEventCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load time of one Warrior against the length of its history, from the rows a load
+ * reads: every event payload, the snapshot plus the events after it, or a cache hit.
+ * The database round trip is not included; the rows it returns scale the same way.
+ *
+ * Only WarriorCreated exists so far, so the history is made of WarriorCreated events
+ * with increasing versions standing in for future update events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AggregateLoadBenchmark {
+
+    private static final int SNAPSHOT_INTERVAL = 100;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int historyLength;
+
+    private WarriorId id;
+    private List<byte[]> history;
+    private byte[] snapshot;
+    private List<byte[]> tail;
+    private WarriorSnapshot cached;
+
+    @Setup
+    public void setUp() {
+        id = WarriorId.generate();
+        history = new ArrayList<>(historyLength);
+        List<DomainEvent> events = new ArrayList<>(historyLength);
+        for (int version = 1; version <= historyLength; version++) {
+            WarriorCreatedEvent event = new WarriorCreatedEvent(UUID.randomUUID(), id.getValue(), version,
+                Instant.now(), "Leonidas " + version, LocalDate.of(1980, 7, 14),
+                List.of("Swordsmanship", "Shield Combat", "Archery"));
+            events.add(event);
+            history.add(DomainEventCodec.encode(event));
+        }
+
+        // Where a repository with the default interval would stand after this history
+        int snapshotVersion = historyLength / SNAPSHOT_INTERVAL * SNAPSHOT_INTERVAL;
+        if (snapshotVersion > 0) {
+            snapshot = WarriorSnapshotCodec.encode(
+                Warrior.fromEvents(id, events.subList(0, snapshotVersion)).toSnapshot());
+        }
+        tail = history.subList(snapshotVersion, historyLength);
+        cached = Warrior.fromEvents(id, events).toSnapshot();
+    }
+
+    /**
+     * What every load cost before: the whole history decoded and replayed
+     */
+    @Benchmark
+    public Warrior replayFullHistory() {
+        return Warrior.fromEvents(id, decode(history));
+    }
+
+    @Benchmark
+    public Warrior snapshotPlusTail() {
+        List<DomainEvent> newer = decode(tail);
+        return snapshot == null
+            ? Warrior.fromEvents(id, newer)
+            : Warrior.fromSnapshot(WarriorSnapshotCodec.decode(snapshot), newer);
+    }
+
+    @Benchmark
+    public Warrior cacheHit() {
+        return Warrior.fromSnapshot(cached, List.of());
+    }
+
+    private static List<DomainEvent> decode(List<byte[]> payloads) {
+        List<DomainEvent> events = new ArrayList<>(payloads.size());
+        for (byte[] payload : payloads) {
+            events.add(DomainEventCodec.decode(payload));
+        }
+        return events;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.command;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
  * Handles all commands (creates, updates) and publishes events
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableKafka
 @EnableTransactionManagement
 public class CommandServiceApplication {
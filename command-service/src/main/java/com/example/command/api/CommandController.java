@@ -1,13 +1,15 @@
 package com.example.command.api;
 
-import jakarta.validation.Valid;
+import com.example.command.ingress.CommandIngress;
+import com.example.shared.validation.InvalidWarriorPayloadException;
+import com.example.shared.validation.WarriorPayloadValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Command API Controller
@@ -19,22 +21,25 @@ import java.util.UUID;
 @Slf4j
 public class CommandController {
     
-    private final WarriorCommandHandler commandHandler;
+    private final CommandIngress commandIngress;
     
     /**
      * Create a new warrior
-     * Returns 202 Accepted (async processing via events)
+     * Returns 202 Accepted (async processing via events) once the batch holding
+     * the command is durable; 503 when the ingress is full. The request thread is
+     * released while the command waits in the ingress
      */
     @PostMapping("/warriors")
-    public ResponseEntity<WarriorCreatedResponse> createWarrior(
-        @Valid @RequestBody CreateWarriorRequest request) {
-        
-        UUID warriorId = commandHandler.handle(request);
-        
-        return ResponseEntity
+    public CompletableFuture<ResponseEntity<WarriorCreatedResponse>> createWarrior(
+        @RequestBody CreateWarriorRequest request) {
+
+        InvalidWarriorPayloadException.throwIfInvalid(WarriorPayloadValidator.validate(
+            request.getName(), request.getDob(), request.getFightSkills()));
+
+        return commandIngress.submit(request).thenApply(warriorId -> ResponseEntity
             .status(HttpStatus.ACCEPTED)
             .header("Location", "/api/v1/queries/warriors/" + warriorId)
-            .body(new WarriorCreatedResponse(warriorId));
+            .body(new WarriorCreatedResponse(warriorId)));
     }
     
     /**
@@ -0,0 +1,67 @@
+package com.example.command.api;
+
+import com.example.command.ingress.IngressOverloadedException;
+import com.example.shared.validation.InvalidWarriorPayloadException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maps command failures to the API service's error body
+ */
+@RestControllerAdvice
+public class CommandExceptionHandler {
+
+    @ExceptionHandler(InvalidWarriorPayloadException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPayload(
+        InvalidWarriorPayloadException ex,
+        HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.BAD_REQUEST.value())
+            .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+            .message("Validation failed")
+            .path(request.getRequestURI())
+            .validationErrors(ex.getViolations())
+            .build();
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * Domain rules the payload validator does not cover, such as the skill name length
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleDomainRule(
+        IllegalArgumentException ex,
+        HttpServletRequest request) {
+
+        return ResponseEntity.badRequest().body(error(HttpStatus.BAD_REQUEST, ex.getMessage(), request));
+    }
+
+    @ExceptionHandler(IngressOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(
+        IngressOverloadedException ex,
+        HttpServletRequest request) {
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request));
+    }
+
+    private static ErrorResponse error(HttpStatus status, String message, HttpServletRequest request) {
+        return ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(status.value())
+            .error(status.getReasonPhrase())
+            .message(message)
+            .path(request.getRequestURI())
+            .build();
+    }
+}
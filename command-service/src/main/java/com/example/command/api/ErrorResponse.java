@@ -0,0 +1,23 @@
+package com.example.command.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Error body, same shape as the API service's
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ErrorResponse {
+    LocalDateTime timestamp;
+    int status;
+    String error;
+    String message;
+    String path;
+    Map<String, String> validationErrors;
+}
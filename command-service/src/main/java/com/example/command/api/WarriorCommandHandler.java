@@ -2,12 +2,17 @@ package com.example.command.api;
 
 import com.example.command.domain.warrior.Warrior;
 import com.example.command.domain.warrior.WarriorId;
+import com.example.command.infrastructure.aggregate.WarriorRepository;
+import com.example.command.infrastructure.eventstore.AggregateEvents;
+import com.example.command.infrastructure.eventstore.ConcurrencyException;
 import com.example.command.infrastructure.eventstore.EventStore;
+import com.example.shared.events.DomainEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -20,33 +25,59 @@ import java.util.UUID;
 public class WarriorCommandHandler {
     
     private final EventStore eventStore;
+    private final WarriorRepository warriorRepository;
     
     /**
      * Handle CreateWarrior command
      * Creates new aggregate and persists events
+     * No surrounding transaction: the event store picks the isolation of its append
      */
-    @Transactional
     public UUID handle(CreateWarriorRequest command) {
-        WarriorId id = WarriorId.generate();
-        
-        // Create domain aggregate
-        Warrior warrior = Warrior.create(
-            id,
+        Warrior warrior = create(command);
+        commit(List.of(warrior));
+        return warrior.getId().getValue();
+    }
+
+    /**
+     * Create domain aggregate, with its events still uncommitted
+     * Throws IllegalArgumentException when the command breaks a domain rule
+     * The payload was already validated, so fightSkills is never null here
+     */
+    public Warrior create(CreateWarriorRequest command) {
+        return Warrior.create(
+            WarriorId.generate(),
             command.getName(),
             command.getDob(),
-            command.getFightSkills() != null ? command.getFightSkills() : java.util.List.of()
-        );
-        
-        // Persist events to event store
-        eventStore.save(
-            id.getValue(),
-            warrior.getUncommittedEvents(),
-            0  // Expected version for new aggregate
+            command.getFightSkills()
         );
-        
-        warrior.markEventsAsCommitted();
-        
-        log.info("Created warrior: {} ({})", warrior.getName(), id.getValue());
-        return id.getValue();
+    }
+
+    /**
+     * Persist the uncommitted events of all warriors in one event store transaction,
+     * then let the repository cache and snapshot the new state
+     */
+    public void commit(List<Warrior> warriors) {
+        List<AggregateEvents> appends = new ArrayList<>(warriors.size());
+        List<Integer> previousVersions = new ArrayList<>(warriors.size());
+        for (Warrior warrior : warriors) {
+            List<DomainEvent> uncommitted = warrior.getUncommittedEvents();
+            int expectedVersion = warrior.getVersion() - uncommitted.size();
+            appends.add(new AggregateEvents(warrior.getId().getValue(), uncommitted, expectedVersion));
+            previousVersions.add(expectedVersion);
+        }
+
+        try {
+            eventStore.saveAll(appends);
+        } catch (ConcurrencyException e) {
+            // Another writer got there first: whatever was cached for them is stale
+            warriorRepository.evict(warriors);
+            throw e;
+        }
+
+        for (Warrior warrior : warriors) {
+            warrior.markEventsAsCommitted();
+            log.debug("Created warrior: {} ({})", warrior.getName(), warrior.getId().getValue());
+        }
+        warriorRepository.committed(warriors, previousVersions);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.command.domain.warrior;
 
+import com.example.shared.validation.WarriorPayloadValidator;
 import lombok.Value;
 
 /**
@@ -11,7 +12,7 @@ public class FightSkill {
     String name;
     
     public FightSkill(String name) {
-        if (name == null || name.trim().isEmpty()) {
+        if (WarriorPayloadValidator.isBlank(name)) {
             throw new IllegalArgumentException("Fight skill cannot be empty");
         }
         if (name.length() > 50) {
@@ -72,14 +72,42 @@ public class Warrior {
      */
     public static Warrior fromEvents(WarriorId id, List<DomainEvent> events) {
         Warrior warrior = new Warrior(id);
-        
+        warrior.replay(events);
+        return warrior;
+    }
+
+    /**
+     * Reconstitute warrior from a snapshot and the events after its version
+     */
+    public static Warrior fromSnapshot(WarriorSnapshot snapshot, List<DomainEvent> newerEvents) {
+        Warrior warrior = new Warrior(snapshot.id());
+        warrior.name = snapshot.name();
+        warrior.dob = snapshot.dob();
+        warrior.fightSkills = snapshot.fightSkills().stream()
+            .map(FightSkill::new)
+            .collect(Collectors.toList());
+        warrior.version = snapshot.version();
+        warrior.replay(newerEvents);
+        return warrior;
+    }
+
+    /**
+     * Committed state only: uncommitted events are not part of a snapshot
+     */
+    public WarriorSnapshot toSnapshot() {
+        if (!uncommittedEvents.isEmpty()) {
+            throw new IllegalStateException("Warrior " + id.getValue() + " has uncommitted events");
+        }
+        return new WarriorSnapshot(id, version, name, dob,
+            fightSkills.stream().map(FightSkill::getName).toList());
+    }
+
+    private void replay(List<DomainEvent> events) {
         for (DomainEvent event : events) {
             if (event instanceof WarriorCreatedEvent created) {
-                warrior.applyHistoric(created);
+                applyHistoric(created);
             }
         }
-        
-        return warrior;
     }
     
     /**
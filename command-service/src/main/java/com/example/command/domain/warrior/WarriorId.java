@@ -1,5 +1,6 @@
 package com.example.command.domain.warrior;
 
+import com.example.shared.ids.UuidV7;
 import lombok.Value;
 import java.util.UUID;
 
@@ -10,8 +11,11 @@ import java.util.UUID;
 public class WarriorId {
     UUID value;
     
+    /**
+     * Time-ordered, so new aggregates append to the event store's indexes
+     */
     public static WarriorId generate() {
-        return new WarriorId(UUID.randomUUID());
+        return new WarriorId(UuidV7.generate());
     }
     
     public static WarriorId of(UUID value) {
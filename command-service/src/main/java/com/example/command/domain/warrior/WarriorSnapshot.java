@@ -0,0 +1,11 @@
+package com.example.command.domain.warrior;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * State of a warrior as of version, so it can be loaded without replaying
+ * the events up to that version
+ */
+public record WarriorSnapshot(WarriorId id, int version, String name, LocalDate dob, List<String> fightSkills) {
+}
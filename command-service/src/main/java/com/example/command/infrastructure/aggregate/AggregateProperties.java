@@ -0,0 +1,28 @@
+package com.example.command.infrastructure.aggregate;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Aggregate loading settings (aggregate.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "aggregate")
+public class AggregateProperties {
+
+    /**
+     * A snapshot is written each time an aggregate's version crosses a multiple of this,
+     * so a load replays fewer than snapshot-interval events; 0 turns snapshots off
+     */
+    private int snapshotInterval = 100;
+
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+        /**
+         * Aggregates kept in memory by id; 0 turns the cache off
+         */
+        private long maxEntries = 10_000;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.command.infrastructure.aggregate;
+
+import com.example.command.domain.warrior.Warrior;
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+import com.example.command.infrastructure.eventstore.EventStore;
+import com.example.command.infrastructure.snapshot.SnapshotStore;
+import com.example.shared.events.DomainEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads Warrior aggregates without replaying their whole history
+ *
+ * - Cache: the committed state of recently used aggregates, as immutable snapshots
+ *   keyed by WarriorId and bounded to cache.max-entries. A hit costs no query; each
+ *   load gets its own Warrior built from the entry, so a command that fails cannot
+ *   leave half-applied state behind.
+ * - Snapshots: on a miss, the latest stored snapshot plus only the events after it.
+ *   A snapshot is written whenever a commit takes an aggregate's version past a
+ *   multiple of snapshot-interval.
+ *
+ * A cache entry made stale by another instance is caught by the event store's
+ * version constraint on append; the conflicting aggregates are then evicted, so the
+ * retried command loads fresh state.
+ */
+@Component
+@Slf4j
+public class WarriorRepository {
+
+    private final EventStore eventStore;
+    private final SnapshotStore snapshotStore;
+    private final int snapshotInterval;
+    private final Cache<WarriorId, WarriorSnapshot> cache;
+
+    public WarriorRepository(EventStore eventStore, SnapshotStore snapshotStore, AggregateProperties properties) {
+        this.eventStore = eventStore;
+        this.snapshotStore = snapshotStore;
+        this.snapshotInterval = properties.getSnapshotInterval();
+        // Evictions run on the writing thread, so the bound (and max-entries 0) holds once put returns
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getCache().getMaxEntries())
+            .executor(Runnable::run)
+            .build();
+        log.info("Aggregate snapshot interval {}, cache bounded to {} entries",
+            snapshotInterval, properties.getCache().getMaxEntries());
+    }
+
+    /**
+     * The committed state of the warrior, or empty when it has no events
+     */
+    public Optional<Warrior> load(WarriorId id) {
+        WarriorSnapshot cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(Warrior.fromSnapshot(cached, List.of()));
+        }
+
+        Optional<WarriorSnapshot> snapshot = snapshotInterval > 0 ? snapshotStore.findLatest(id) : Optional.empty();
+        int afterVersion = snapshot.map(WarriorSnapshot::version).orElse(0);
+        List<DomainEvent> newer = eventStore.getEventsAfter(id.getValue(), afterVersion);
+        if (snapshot.isEmpty() && newer.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Warrior warrior = snapshot.isPresent()
+            ? Warrior.fromSnapshot(snapshot.get(), newer)
+            : Warrior.fromEvents(id, newer);
+        cache.put(id, warrior.toSnapshot());
+        return Optional.of(warrior);
+    }
+
+    /**
+     * Called once the warriors' events are committed: refreshes the cache entries of
+     * loaded aggregates and snapshots those whose version crossed the interval.
+     * Freshly created ones are not cached, or a burst of creates would churn out the
+     * hot aggregates. A failed snapshot write only costs a longer replay later, so it
+     * never fails the command
+     */
+    public void committed(List<Warrior> warriors, List<Integer> previousVersions) {
+        List<WarriorSnapshot> due = new ArrayList<>();
+        for (int i = 0; i < warriors.size(); i++) {
+            WarriorSnapshot snapshot = warriors.get(i).toSnapshot();
+            if (previousVersions.get(i) > 0) {
+                cache.put(snapshot.id(), snapshot);
+            }
+            if (snapshotInterval > 0
+                    && snapshot.version() / snapshotInterval > previousVersions.get(i) / snapshotInterval) {
+                due.add(snapshot);
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            snapshotStore.saveAll(due);
+        } catch (RuntimeException e) {
+            log.warn("Writing {} aggregate snapshots failed: {}", due.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Drops cached state that turned out to be stale
+     */
+    public void evict(List<Warrior> warriors) {
+        for (Warrior warrior : warriors) {
+            cache.invalidate(warrior.getId());
+        }
+    }
+
+    /**
+     * Entries in the cache once pending evictions have run
+     */
+    long cachedAggregates() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.command.infrastructure.eventstore;
+
+import com.example.shared.events.DomainEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * New events of one aggregate, to be appended after expectedVersion
+ */
+public record AggregateEvents(UUID aggregateId, List<DomainEvent> events, int expectedVersion) {
+}
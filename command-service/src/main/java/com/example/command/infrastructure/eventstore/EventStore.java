@@ -9,5 +9,18 @@ import java.util.UUID;
  */
 public interface EventStore {
     void save(UUID aggregateId, List<DomainEvent> events, int expectedVersion);
+
+    /**
+     * Appends the events of several aggregates in one transaction: all are stored or none.
+     * A conflict on any aggregate fails the whole call with ConcurrencyException
+     */
+    void saveAll(List<AggregateEvents> appends);
+
     List<DomainEvent> getEvents(UUID aggregateId);
+
+    /**
+     * Events of the aggregate with a version above afterVersion, oldest first:
+     * what is left to replay on top of a snapshot at afterVersion
+     */
+    List<DomainEvent> getEventsAfter(UUID aggregateId, int afterVersion);
 }
@@ -0,0 +1,38 @@
+package com.example.command.infrastructure.eventstore;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Event store settings (eventstore.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "eventstore")
+public class EventStoreProperties {
+
+    /**
+     * How appends are guarded against concurrent writers:
+     * "constraint" - one multi-row INSERT at READ COMMITTED, the unique
+     * (aggregate_id, event_version) constraint rejects the loser (default);
+     * "serializable" - SELECT MAX(event_version) then row-by-row INSERTs at SERIALIZABLE
+     */
+    private AppendMode appendMode = AppendMode.CONSTRAINT;
+
+    /**
+     * How new events are stored:
+     * "binary" - DomainEventCodec bytes in event_payload, published to Kafka as-is (default);
+     * "json" - Jackson JSON in event_data, readable from psql.
+     * Rows in either form are always readable
+     */
+    private PayloadFormat payloadFormat = PayloadFormat.BINARY;
+
+    public enum AppendMode {
+        CONSTRAINT,
+        SERIALIZABLE
+    }
+
+    public enum PayloadFormat {
+        BINARY,
+        JSON
+    }
+}
@@ -1,121 +1,250 @@
 package com.example.command.infrastructure.eventstore;
 
 import com.example.shared.events.DomainEvent;
-import com.example.shared.events.WarriorCreatedEvent;
+import com.example.shared.events.codec.DomainEventCodec;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Isolation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * PostgreSQL-based Event Store
  * Provides append-only event persistence with optimistic locking
+ *
+ * Two append modes (eventstore.append-mode):
+ * - constraint: the events in one multi-row INSERT at READ COMMITTED;
+ *   the unique (aggregate_id, event_version) constraint is the only concurrency guard,
+ *   so a conflicting writer fails on insert instead of on a prior read
+ * - serializable: the original read-check-insert path, one round trip per event
+ *
+ * Events are stored as DomainEventCodec bytes in event_payload (eventstore.payload-format=binary)
+ * or as JSON in event_data (json); reads accept both, so older JSON rows stay valid.
+ *
+ * Nothing is published from here: OutboxRelay tails the table and publishes what committed.
  */
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 public class PostgresEventStore implements EventStore {
-    
+
+    private static final String VERSION_CONSTRAINT = "unique_aggregate_version";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private static final String INSERT_EVENTS =
+        "INSERT INTO event_store " +
+        "(event_id, aggregate_id, aggregate_type, event_type, " +
+        "event_version, event_payload, event_data, created_at) " +
+        "VALUES ";
+    private static final String EVENT_ROW = "(?, ?, ?, ?, ?, ?, ?::jsonb, ?)";
+    private static final int EVENT_COLUMNS = 8;
+
+    // Typed, so JdbcTemplate binds them without asking the server for the parameter types
+    private static final SqlParameterValue NO_PAYLOAD = new SqlParameterValue(Types.BINARY, null);
+    private static final SqlParameterValue NO_DATA = new SqlParameterValue(Types.VARCHAR, null);
+
+    // PostgreSQL rejects statements with more than 32767 bind parameters
+    private static final int MAX_BIND_PARAMETERS = 30_000;
+
     private final JdbcTemplate jdbcTemplate;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final EventStoreProperties.AppendMode appendMode;
+    private final EventStoreProperties.PayloadFormat payloadFormat;
+    private final TransactionTemplate readCommitted;
+    private final TransactionTemplate serializable;
     private final ObjectMapper objectMapper = new ObjectMapper()
         .registerModule(new JavaTimeModule());
-    
+
+    public PostgresEventStore(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              EventStoreProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.appendMode = properties.getAppendMode();
+        this.payloadFormat = properties.getPayloadFormat();
+        this.readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.serializable = new TransactionTemplate(transactionManager);
+        serializable.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        log.info("Event store append mode: {}, payload format: {}", appendMode, payloadFormat);
+    }
+
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE)
     public void save(UUID aggregateId, List<DomainEvent> events, int expectedVersion) {
+        saveAll(List.of(new AggregateEvents(aggregateId, events, expectedVersion)));
+    }
+
+    @Override
+    public void saveAll(List<AggregateEvents> appends) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (AggregateEvents append : appends) {
+            requireContiguousVersions(append);
+            events.addAll(append.events());
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        switch (appendMode) {
+            case CONSTRAINT -> appendGuardedByConstraint(appends, events);
+            case SERIALIZABLE -> serializable.executeWithoutResult(
+                status -> appends.forEach(this::appendAfterVersionCheck));
+        }
+    }
+
+    /**
+     * No reads: if another writer already holds the version after an aggregate's
+     * expectedVersion, the unique constraint rejects the transaction. Events of all
+     * aggregates share multi-row INSERTs, split only at the bind parameter limit
+     */
+    private void appendGuardedByConstraint(List<AggregateEvents> appends, List<DomainEvent> events) {
+        int rowsPerStatement = MAX_BIND_PARAMETERS / EVENT_COLUMNS;
+        try {
+            readCommitted.executeWithoutResult(status -> {
+                for (int from = 0; from < events.size(); from += rowsPerStatement) {
+                    insertEvents(events.subList(from, Math.min(events.size(), from + rowsPerStatement)));
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            if (!violatesVersionConstraint(e)) {
+                throw e;
+            }
+            throw new ConcurrencyException(describeConflict(appends));
+        }
+        log.debug("Persisted {} events for {} aggregates", events.size(), appends.size());
+    }
+
+    private void insertEvents(List<DomainEvent> events) {
+        StringBuilder sql = new StringBuilder(
+            INSERT_EVENTS.length() + events.size() * (EVENT_ROW.length() + 2)).append(INSERT_EVENTS);
+        Object[] args = new Object[events.size() * EVENT_COLUMNS];
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(EVENT_ROW);
+            bindEvent(events.get(i), args, i * EVENT_COLUMNS);
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * Decided by SQLState and constraint name, not the (localised) message text;
+     * any other duplicate, such as a reused event_id, is not a version conflict
+     */
+    private static boolean violatesVersionConstraint(DuplicateKeyException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psql) {
+                ServerErrorMessage error = psql.getServerErrorMessage();
+                return UNIQUE_VIOLATION.equals(psql.getSQLState())
+                    && error != null
+                    && VERSION_CONSTRAINT.equals(error.getConstraint());
+            }
+        }
+        return false;
+    }
+
+    private static String describeConflict(List<AggregateEvents> appends) {
+        if (appends.size() == 1) {
+            AggregateEvents append = appends.get(0);
+            return String.format("Aggregate %s modified. Expected v%d, but v%d already exists",
+                append.aggregateId(), append.expectedVersion(), append.expectedVersion() + 1);
+        }
+        return String.format("One of %d aggregates was modified concurrently", appends.size());
+    }
+
+    private void appendAfterVersionCheck(AggregateEvents append) {
+        UUID aggregateId = append.aggregateId();
+        int expectedVersion = append.expectedVersion();
         // Optimistic concurrency check
         Integer currentVersion = jdbcTemplate.queryForObject(
             "SELECT MAX(event_version) FROM event_store WHERE aggregate_id = ?",
             Integer.class,
             aggregateId
         );
-        
+
         if (currentVersion != null && currentVersion != expectedVersion) {
             throw new ConcurrencyException(
                 String.format("Aggregate %s modified. Expected v%d, found v%d",
                     aggregateId, expectedVersion, currentVersion)
             );
         }
-        
+
         // Append events to event store
-        for (DomainEvent event : events) {
-            String eventData = toJson(event);
-            
-            jdbcTemplate.update(
-                "INSERT INTO event_store " +
-                "(event_id, aggregate_id, aggregate_type, event_type, " +
-                "event_version, event_data, created_at) " +
-                "VALUES (?, ?, ?, ?, ?, ?::jsonb, ?)",
-                event.getEventId(),
-                event.getAggregateId(),
-                "Warrior",
-                event.getEventType(),
-                event.getVersion(),
-                eventData,
-                Timestamp.from(event.getOccurredAt())
-            );
-            
-            // Publish to Kafka for projections
-            publishEventAsync(event);
-            
-            log.debug("Persisted event: {} v{} for aggregate {}", 
+        Object[] args = new Object[EVENT_COLUMNS];
+        for (DomainEvent event : append.events()) {
+            bindEvent(event, args, 0);
+            jdbcTemplate.update(INSERT_EVENTS + EVENT_ROW, args);
+
+            log.debug("Persisted event: {} v{} for aggregate {}",
                 event.getEventType(), event.getVersion(), aggregateId);
         }
     }
+
+    /**
+     * The constraint only catches a conflict if the first new event takes the
+     * version right after the one the caller read
+     */
+    private static void requireContiguousVersions(AggregateEvents append) {
+        List<DomainEvent> events = append.events();
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i).getVersion() != append.expectedVersion() + 1 + i) {
+                throw new IllegalArgumentException(String.format(
+                    "Events for aggregate %s must continue from v%d, got v%d at position %d",
+                    append.aggregateId(), append.expectedVersion(), events.get(i).getVersion(), i));
+            }
+        }
+    }
+
+    private void bindEvent(DomainEvent event, Object[] args, int offset) {
+        args[offset] = event.getEventId();
+        args[offset + 1] = event.getAggregateId();
+        args[offset + 2] = "Warrior";
+        args[offset + 3] = event.getEventType();
+        args[offset + 4] = event.getVersion();
+        boolean binary = payloadFormat == EventStoreProperties.PayloadFormat.BINARY;
+        args[offset + 5] = binary ? DomainEventCodec.encode(event) : NO_PAYLOAD;
+        args[offset + 6] = binary ? NO_DATA : toJson(event);
+        args[offset + 7] = Timestamp.from(event.getOccurredAt());
+    }
     
     @Override
     public List<DomainEvent> getEvents(UUID aggregateId) {
+        return getEventsAfter(aggregateId, 0);
+    }
+
+    @Override
+    public List<DomainEvent> getEventsAfter(UUID aggregateId, int afterVersion) {
         return jdbcTemplate.query(
-            "SELECT event_data, event_type " +
+            "SELECT event_payload, event_data::text AS event_data " +
             "FROM event_store " +
-            "WHERE aggregate_id = ? " +
+            "WHERE aggregate_id = ? AND event_version > ? " +
             "ORDER BY event_version ASC",
             (rs, rowNum) -> deserializeEvent(
-                rs.getString("event_data"),
-                rs.getString("event_type")
+                rs.getBytes("event_payload"),
+                rs.getString("event_data")
             ),
-            aggregateId
+            aggregateId, afterVersion
         );
     }
-    
-    private void publishEventAsync(DomainEvent event) {
-        try {
-            String key = event.getAggregateId().toString();
-            String value = objectMapper.writeValueAsString(event);
-            
-            kafkaTemplate.send("warrior-events", key, value)
-                .whenComplete((result, ex) -> {
-                    if (ex != null) {
-                        log.error("Failed to publish event {}", event.getEventId(), ex);
-                    }
-                });
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize event {}", event.getEventId(), e);
-        }
-    }
-    
-    private DomainEvent deserializeEvent(String json, String eventType) {
-        try {
-            return switch (eventType) {
-                case "WarriorCreated" -> 
-                    objectMapper.readValue(json, WarriorCreatedEvent.class);
-                default -> 
-                    throw new IllegalArgumentException("Unknown event: " + eventType);
-            };
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to deserialize event", e);
-        }
+
+    /**
+     * The codec upcasts older binary schema versions and JSON rows alike
+     */
+    private static DomainEvent deserializeEvent(byte[] payload, String json) {
+        return DomainEventCodec.decode(payload != null ? payload : json.getBytes(StandardCharsets.UTF_8));
     }
     
     private String toJson(Object obj) {
@@ -0,0 +1,255 @@
+package com.example.command.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transactional outbox relay: event_store itself is the outbox
+ *
+ * Tails event_store in sequence_number order and publishes to Kafka, so only
+ * committed events are ever published and the command path never touches Kafka.
+ * Each cycle, in one transaction:
+ * - locks this relay's checkpoint row (FOR UPDATE SKIP LOCKED: with several
+ *   instances, one relays and the others skip the cycle)
+ * - reads up to batch-size events after the checkpoint
+ * - sends them all, lets the producer batch, compress and linger, and waits for
+ *   every acknowledgement
+ * - moves the checkpoint past them
+ * Stored bytes are published as they are: DomainEventCodec payloads, or the JSON
+ * of rows written before the codec, which DomainEventDeserializer also reads.
+ *
+ * A failure before the commit leaves the checkpoint where it was, so delivery is
+ * at-least-once; the projector is idempotent on the aggregate id.
+ *
+ * sequence_number is assigned at insert, not at commit: a lower number can become
+ * visible after a higher one. The relay therefore stops at a hole. A rolled-back
+ * insert leaves one for good, so once a hole has stayed open for gap-timeout the
+ * relay notes the next transaction id and waits until every transaction below it
+ * has ended (pg_snapshot_xmin). Only a hole still open after that is skipped: no
+ * transaction that could fill it is left. Every skip is logged as an error and
+ * counted in outbox.relay.skipped.sequences.
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private static final String LOCK_CHECKPOINT =
+        "SELECT last_sequence FROM outbox_checkpoint WHERE relay = ? FOR UPDATE SKIP LOCKED";
+
+    private static final String READ_EVENTS =
+        "SELECT sequence_number, aggregate_id, event_payload, event_data::text AS event_data " +
+        "FROM event_store WHERE sequence_number > ? " +
+        "ORDER BY sequence_number LIMIT ?";
+
+    // xid8 values: 64 bits with the epoch, so they only ever grow
+    private static final String NEXT_TRANSACTION_ID =
+        "SELECT pg_snapshot_xmax(pg_current_snapshot())::text::bigint";
+    private static final String OLDEST_RUNNING_TRANSACTION_ID =
+        "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    private static final String SAVE_CHECKPOINT =
+        "UPDATE outbox_checkpoint SET last_sequence = ?, updated_at = now() WHERE relay = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OutboxRelayProperties settings;
+    private final TransactionTemplate transactionTemplate;
+    private final Thread relay;
+    private final Counter skippedSequences;
+
+    private volatile boolean running;
+
+    // Hole in sequence_number the relay is currently waiting on, since when, the
+    // transaction id every transaction that could fill it is below (-1 until
+    // gap-timeout), and whether all of those have ended
+    private long gapAt = -1;
+    private long gapSinceNanos;
+    private long gapFence = -1;
+    private boolean gapSettled;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       PlatformTransactionManager transactionManager,
+                       OutboxRelayProperties settings,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.settings = settings;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.relay = new Thread(this::relayLoop, "outbox-relay");
+        relay.setDaemon(true);
+        this.skippedSequences = Counter.builder("outbox.relay.skipped.sequences")
+            .description("Holes in sequence_number skipped as rolled back; never expected to rise")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        // A new relay starts at the head: events appended before it existed were
+        // published by the command path itself
+        jdbcTemplate.update(
+            "INSERT INTO outbox_checkpoint (relay, last_sequence) " +
+            "SELECT ?, COALESCE(MAX(sequence_number), 0) FROM event_store " +
+            "ON CONFLICT DO NOTHING",
+            settings.getName());
+        running = true;
+        relay.start();
+        log.info("Outbox relay {} started: topic {}, batch size {}",
+            settings.getName(), settings.getTopic(), settings.getBatchSize());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        relay.join(settings.getSendTimeout().toMillis());
+    }
+
+    private void relayLoop() {
+        long backoffMillis = settings.getPollInterval().toMillis();
+        while (running) {
+            try {
+                Integer relayed = transactionTemplate.execute(status -> relayBatch());
+                if (relayed != null && relayed > 0) {
+                    backoffMillis = settings.getPollInterval().toMillis();
+                    continue;
+                }
+                Thread.sleep(settings.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Kafka or the database is failing: the checkpoint did not move, retry later
+                log.warn("Outbox relay cycle failed, retrying in {}ms: {}", backoffMillis, e.getMessage());
+                if (!sleep(backoffMillis)) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * One cycle; returns how many events were published, 0 when there was nothing
+     * to do or another instance holds the checkpoint
+     */
+    private int relayBatch() {
+        List<Long> checkpoint = jdbcTemplate.queryForList(LOCK_CHECKPOINT, Long.class, settings.getName());
+        if (checkpoint.isEmpty()) {
+            return 0;
+        }
+        long last = checkpoint.get(0);
+
+        List<PendingEvent> events = jdbcTemplate.query(READ_EVENTS,
+            (rs, rowNum) -> new PendingEvent(
+                rs.getLong("sequence_number"), rs.getString("aggregate_id"),
+                payloadOf(rs.getBytes("event_payload"), rs.getString("event_data"))),
+            last, settings.getBatchSize());
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        long expected = last + 1;
+        for (PendingEvent event : events) {
+            if (event.sequence() != expected && !gapSkippable(expected)) {
+                break;
+            }
+            // Keyed by aggregate, so one aggregate's events stay ordered on one partition
+            sends.add(kafkaTemplate.send(settings.getTopic(), event.aggregateId(), event.data()));
+            expected = event.sequence() + 1;
+        }
+        if (sends.isEmpty()) {
+            return 0;
+        }
+
+        kafkaTemplate.flush();
+        awaitAcknowledged(sends);
+        jdbcTemplate.update(SAVE_CHECKPOINT, expected - 1, settings.getName());
+        return sends.size();
+    }
+
+    /**
+     * Whether the hole at sequence can no longer be filled. The insert holding it
+     * took its transaction id together with the number, so after gap-timeout it is
+     * below the next transaction id; once the oldest running transaction is past
+     * that fence, the holder has committed or rolled back. The hole is only skipped
+     * on the cycle after that, whose read would have seen a committed row
+     */
+    private boolean gapSkippable(long sequence) {
+        long now = System.nanoTime();
+        if (gapAt != sequence) {
+            gapAt = sequence;
+            gapSinceNanos = now;
+            gapFence = -1;
+            gapSettled = false;
+            return false;
+        }
+        if (gapSettled) {
+            skippedSequences.increment();
+            log.error("Skipping sequence_number {}: still missing after every transaction that could insert it ended",
+                sequence);
+            gapAt = -1;
+            return true;
+        }
+        if (now - gapSinceNanos < settings.getGapTimeout().toNanos()) {
+            return false;
+        }
+        if (gapFence < 0) {
+            gapFence = jdbcTemplate.queryForObject(NEXT_TRANSACTION_ID, Long.class);
+            log.warn("sequence_number {} still missing after {}, waiting for transactions before {} to end",
+                sequence, settings.getGapTimeout(), gapFence);
+            return false;
+        }
+        Long oldestRunning = jdbcTemplate.queryForObject(OLDEST_RUNNING_TRANSACTION_ID, Long.class);
+        gapSettled = oldestRunning != null && oldestRunning >= gapFence;
+        return false;
+    }
+
+    private void awaitAcknowledged(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(settings.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for Kafka acknowledgements", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Kafka did not acknowledge " + sends.size() + " events", e);
+        }
+    }
+
+    private static byte[] payloadOf(byte[] payload, String json) {
+        return payload != null ? payload : json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record PendingEvent(long sequence, String aggregateId, byte[] data) {
+    }
+}
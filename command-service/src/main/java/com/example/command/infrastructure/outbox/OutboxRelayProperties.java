@@ -0,0 +1,44 @@
+package com.example.command.infrastructure.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the event store to Kafka relay (outbox.relay.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxRelayProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Checkpoint row of this relay; instances sharing a name share the work, one at a time
+     */
+    private String name = "warrior-events";
+
+    private String topic = "warrior-events";
+
+    /**
+     * Events read and published per cycle; each cycle ends with one checkpoint write
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * Pause between cycles that found nothing to publish
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /**
+     * How long a hole in sequence_number is waited for before the relay checks whether
+     * any transaction that could still fill it is running; it is skipped once none is
+     */
+    private Duration gapTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Upper bound to wait for Kafka to acknowledge one cycle's sends
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,63 @@
+package com.example.command.infrastructure.snapshot;
+
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Snapshots in the aggregate_snapshot table, one row per aggregate
+ *
+ * Writes are upserts guarded on the version, so two instances snapshotting the
+ * same aggregate concurrently can never move it backwards.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresSnapshotStore implements SnapshotStore {
+
+    private static final String UPSERT_SNAPSHOT =
+        "INSERT INTO aggregate_snapshot (aggregate_id, aggregate_type, aggregate_version, snapshot_data) " +
+        "VALUES (?, 'Warrior', ?, ?) " +
+        "ON CONFLICT (aggregate_id) DO UPDATE SET " +
+        "aggregate_version = EXCLUDED.aggregate_version, " +
+        "snapshot_data = EXCLUDED.snapshot_data, " +
+        "created_at = now() " +
+        "WHERE aggregate_snapshot.aggregate_version < EXCLUDED.aggregate_version";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<WarriorSnapshot> findLatest(WarriorId id) {
+        List<WarriorSnapshot> found = jdbcTemplate.query(
+            "SELECT snapshot_data FROM aggregate_snapshot WHERE aggregate_id = ?",
+            (rs, rowNum) -> WarriorSnapshotCodec.decode(rs.getBytes("snapshot_data")),
+            id.getValue());
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        if (found.get(0) == null) {
+            log.debug("Ignoring snapshot of {} in an unknown schema", id.getValue());
+        }
+        return Optional.ofNullable(found.get(0));
+    }
+
+    @Override
+    public void saveAll(List<WarriorSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(snapshots.size());
+        for (WarriorSnapshot snapshot : snapshots) {
+            rows.add(new Object[]{
+                snapshot.id().getValue(), snapshot.version(), WarriorSnapshotCodec.encode(snapshot)});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, rows);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.command.infrastructure.snapshot;
+
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Latest snapshot per aggregate; only ever moves forward
+ */
+public interface SnapshotStore {
+    Optional<WarriorSnapshot> findLatest(WarriorId id);
+
+    /**
+     * Stores the snapshots, each replacing an older one of its aggregate;
+     * a snapshot older than the stored one is ignored
+     */
+    void saveAll(List<WarriorSnapshot> snapshots);
+}
@@ -0,0 +1,91 @@
+package com.example.command.infrastructure.snapshot;
+
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary form of a {@link WarriorSnapshot}, in the same layout conventions as
+ * DomainEventCodec: a schema version byte, the id as two longs, the version,
+ * dob as epoch day, then u16 length-prefixed UTF-8 strings.
+ *
+ * Snapshots are disposable: one written by an unknown schema version is read as
+ * missing and the aggregate is replayed from its events instead.
+ */
+final class WarriorSnapshotCodec {
+
+    static final byte SCHEMA = 1;
+
+    private static final int MAX_LENGTH = 0xFFFF;
+
+    private WarriorSnapshotCodec() {
+    }
+
+    static byte[] encode(WarriorSnapshot snapshot) {
+        byte[] name = snapshot.name().getBytes(StandardCharsets.UTF_8);
+        byte[][] skills = new byte[snapshot.fightSkills().size()][];
+        int size = 1 + 16 + 4 + 4 + 2 + name.length + 2;
+        for (int i = 0; i < skills.length; i++) {
+            skills[i] = snapshot.fightSkills().get(i).getBytes(StandardCharsets.UTF_8);
+            size += 2 + skills[i].length;
+        }
+
+        UUID id = snapshot.id().getValue();
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+            .put(SCHEMA)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .putInt(snapshot.version())
+            .putInt((int) snapshot.dob().toEpochDay());
+        putBytes(buffer, name);
+        buffer.putShort(length(skills.length));
+        for (byte[] skill : skills) {
+            putBytes(buffer, skill);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Null when the snapshot was written by a schema this build does not know
+     */
+    static WarriorSnapshot decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.get() != SCHEMA) {
+            return null;
+        }
+        WarriorId id = WarriorId.of(new UUID(buffer.getLong(), buffer.getLong()));
+        int version = buffer.getInt();
+        LocalDate dob = LocalDate.ofEpochDay(buffer.getInt());
+        String name = getString(buffer);
+        int skillCount = Short.toUnsignedInt(buffer.getShort());
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(getString(buffer));
+        }
+        return new WarriorSnapshot(id, version, name, dob, skills);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort(length(bytes.length)).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static short length(int length) {
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Field too long for the snapshot schema: " + length);
+        }
+        return (short) length;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.command.ingress;
+
+import com.example.command.api.CreateWarriorRequest;
+import com.example.command.api.WarriorCommandHandler;
+import com.example.command.domain.warrior.Warrior;
+import com.example.command.infrastructure.eventstore.ConcurrencyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Create command ingress
+ *
+ * Request threads publish commands into a bounded ring buffer (an ArrayBlockingQueue)
+ * and get a future for the batch holding theirs; they do not wait on it, so the buffer,
+ * not the servlet thread pool, bounds how many creates are in flight. A few consumer
+ * threads drain up to batch-size commands, waiting at most max-linger for stragglers,
+ * turn each into an aggregate and append the events of all of them in one event store
+ * transaction - so N concurrent creates cost one commit instead of N. When the buffer
+ * is full the command is refused at once instead of queueing without bound.
+ *
+ * A command still in the buffer when its response-timeout expires is answered with 503
+ * and dropped, never committed; one a consumer already took may still commit.
+ */
+@Component
+@Slf4j
+public class CommandIngress {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final WarriorCommandHandler commandHandler;
+    private final CommandIngressProperties settings;
+    private final BlockingQueue<PendingCommand> ring;
+    private final List<Thread> consumers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public CommandIngress(WarriorCommandHandler commandHandler, CommandIngressProperties settings) {
+        this.commandHandler = commandHandler;
+        this.settings = settings;
+        this.ring = new ArrayBlockingQueue<>(settings.getCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < settings.getConsumers(); i++) {
+            Thread consumer = new Thread(this::drainLoop, "command-ingress-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers.add(consumer);
+        }
+        log.info("Command ingress started: {} consumers, batch size {}, linger {}, capacity {}",
+            settings.getConsumers(), settings.getBatchSize(), settings.getMaxLinger(), settings.getCapacity());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join(settings.getResponseTimeout().toMillis());
+        }
+    }
+
+    /**
+     * Publishes the command; the future completes with the new warrior's id once its
+     * events are committed
+     *
+     * @throws IngressOverloadedException when the buffer is full; the future fails with it
+     * when the batch is not durable in time
+     * @throws IllegalArgumentException (through the future) when the command breaks a domain rule
+     */
+    public CompletableFuture<UUID> submit(CreateWarriorRequest command) {
+        PendingCommand pending = new PendingCommand(command);
+        if (!running || !ring.offer(pending)) {
+            throw new IngressOverloadedException("Command ingress is full, retry later");
+        }
+        CompletableFuture.delayedExecutor(settings.getResponseTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .execute(pending::expire);
+        return pending.committed();
+    }
+
+    private void drainLoop() {
+        int maxBatch = settings.getBatchSize();
+        long lingerNanos = settings.getMaxLinger().toNanos();
+        List<PendingCommand> batch = new ArrayList<>(maxBatch);
+
+        while (running || !ring.isEmpty()) {
+            try {
+                PendingCommand first = ring.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatch) {
+                    ring.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    PendingCommand next = ring.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                processSafely(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) {
+                    processSafely(batch);
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * An unexpected failure fails this batch's commands, not the consumer thread
+     */
+    private void processSafely(List<PendingCommand> batch) {
+        try {
+            process(batch);
+        } catch (RuntimeException e) {
+            log.error("Processing {} commands failed", batch.size(), e);
+            batch.forEach(pending -> pending.committed().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Builds the aggregates, failing only the commands that break a domain rule,
+     * then commits the rest together. Commands whose caller was already answered
+     * (timed out or cancelled) are skipped
+     */
+    private void process(List<PendingCommand> batch) {
+        List<PendingCommand> accepted = new ArrayList<>(batch.size());
+        List<Warrior> warriors = new ArrayList<>(batch.size());
+        for (PendingCommand pending : batch) {
+            if (!pending.claim()) {
+                continue;
+            }
+            try {
+                warriors.add(commandHandler.create(pending.command()));
+                accepted.add(pending);
+            } catch (IllegalArgumentException e) {
+                pending.committed().completeExceptionally(e);
+            }
+        }
+        if (!accepted.isEmpty()) {
+            commit(accepted, warriors);
+        }
+    }
+
+    private void commit(List<PendingCommand> batch, List<Warrior> warriors) {
+        try {
+            commandHandler.commit(warriors);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).committed().complete(warriors.get(i).getId().getValue());
+            }
+        } catch (ConcurrencyException | DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                batch.get(0).committed().completeExceptionally(e);
+                return;
+            }
+            // One conflicting or rejected aggregate must not fail its neighbours: retry them one by one
+            log.warn("Committing {} commands failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                commit(List.of(batch.get(i)), List.of(warriors.get(i)));
+            }
+        } catch (RuntimeException e) {
+            // The event store is unreachable or failing: retrying one by one would only wait it out N times
+            log.warn("Committing {} commands failed: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.committed().completeExceptionally(e));
+        }
+    }
+
+    private static final class PendingCommand {
+
+        private final CreateWarriorRequest command;
+        private final CompletableFuture<UUID> committed = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingCommand(CreateWarriorRequest command) {
+            this.command = command;
+        }
+
+        CreateWarriorRequest command() {
+            return command;
+        }
+
+        CompletableFuture<UUID> committed() {
+            return committed;
+        }
+
+        /**
+         * Taken by a consumer; false once the caller has been answered
+         */
+        boolean claim() {
+            return !committed.isDone() && claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * The response timeout: a command no consumer has claimed is dropped
+         */
+        void expire() {
+            if (committed.isDone()) {
+                return;
+            }
+            if (claimed.compareAndSet(false, true)) {
+                committed.completeExceptionally(
+                    new IngressOverloadedException("Timed out waiting for a consumer, the command was dropped"));
+            } else {
+                committed.completeExceptionally(
+                    new IngressOverloadedException("Timed out waiting for command to be committed; it may still be created"));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.command.ingress;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the create command ingress (command.ingress.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "command.ingress")
+public class CommandIngressProperties {
+
+    /**
+     * Slots in the ring buffer; a create arriving when all are taken is rejected with 503.
+     * Callers do not hold a request thread while they wait, so this is the in-flight bound
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of commands whose events are appended in one transaction
+     */
+    private int batchSize = 500;
+
+    /**
+     * How long a consumer waits for a batch to fill once it has the first command
+     */
+    private Duration maxLinger = Duration.ofMillis(2);
+
+    private int consumers = 2;
+
+    /**
+     * Upper bound a caller waits for its batch to be durable; a command no consumer
+     * has taken by then is dropped
+     */
+    private Duration responseTimeout = Duration.ofSeconds(10);
+}
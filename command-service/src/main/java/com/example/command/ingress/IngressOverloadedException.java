@@ -0,0 +1,12 @@
+package com.example.command.ingress;
+
+/**
+ * The ingress cannot take or finish a command in time; mapped to 503 with Retry-After.
+ * Stackless, as it is raised on the hot path whenever the buffer is full.
+ */
+public class IngressOverloadedException extends RuntimeException {
+
+    public IngressOverloadedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,7 @@
+-- Outbox relay checkpoints: last sequence_number published to Kafka, per relay
+
+CREATE TABLE IF NOT EXISTS outbox_checkpoint (
+    relay VARCHAR(100) PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
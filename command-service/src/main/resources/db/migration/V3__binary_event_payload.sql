@@ -0,0 +1,16 @@
+-- DomainEventCodec bytes in event_payload; event_data keeps the JSON of older rows
+-- (and of payload-format json). Every row must have one or the other.
+
+ALTER TABLE event_store ADD COLUMN IF NOT EXISTS event_payload BYTEA;
+ALTER TABLE event_store ALTER COLUMN event_data DROP NOT NULL;
+
+-- Created by init-eventstore.sql on volumes initialised after the codec
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'event_store'::regclass AND conname = 'event_payload_present') THEN
+        ALTER TABLE event_store ADD CONSTRAINT event_payload_present
+            CHECK (event_payload IS NOT NULL OR event_data IS NOT NULL);
+    END IF;
+END
+$$;
@@ -0,0 +1,9 @@
+-- Latest snapshot per aggregate (WarriorSnapshotCodec bytes); loads replay only later events
+
+CREATE TABLE IF NOT EXISTS aggregate_snapshot (
+    aggregate_id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_version INT NOT NULL,
+    snapshot_data BYTEA NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
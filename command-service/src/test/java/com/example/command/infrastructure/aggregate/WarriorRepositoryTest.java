@@ -0,0 +1,305 @@
+package com.example.command.infrastructure.aggregate;
+
+import com.example.command.domain.warrior.Warrior;
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+import com.example.command.infrastructure.eventstore.EventStore;
+import com.example.command.infrastructure.snapshot.SnapshotStore;
+import com.example.shared.events.DomainEvent;
+import com.example.shared.events.WarriorCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarriorRepositoryTest {
+
+    private static final LocalDate DOB = LocalDate.of(1990, 5, 15);
+
+    @Mock
+    private EventStore eventStore;
+
+    @Mock
+    private SnapshotStore snapshotStore;
+
+    private final AggregateProperties properties = new AggregateProperties();
+    private final WarriorId id = WarriorId.generate();
+
+    @BeforeEach
+    void setUp() {
+        properties.setSnapshotInterval(100);
+        properties.getCache().setMaxEntries(100);
+    }
+
+    @Test
+    void load_WhenWarriorHasNoEvents_ShouldReturnEmpty() {
+        // Given
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(id.getValue(), 0)).thenReturn(List.of());
+
+        // When & Then
+        assertThat(repository.load(id)).isEmpty();
+        assertThat(repository.cachedAggregates()).isZero();
+    }
+
+    @Test
+    void load_WithoutSnapshot_ShouldReplayEveryEvent() {
+        // Given
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(id.getValue(), 0))
+                .thenReturn(List.of(event(1, "Achilles"), event(2, "Achilles the Swift")));
+
+        // When
+        Warrior warrior = repository.load(id).orElseThrow();
+
+        // Then
+        assertThat(warrior.getVersion()).isEqualTo(2);
+        assertThat(warrior.getName()).isEqualTo("Achilles the Swift");
+        assertThat(warrior.getUncommittedEvents()).isEmpty();
+    }
+
+    @Test
+    void load_WithSnapshot_ShouldReplayOnlyTheEventsAfterIt() {
+        // Given
+        WarriorRepository repository = repository();
+        when(snapshotStore.findLatest(id)).thenReturn(Optional.of(snapshot(200, "Achilles")));
+        when(eventStore.getEventsAfter(id.getValue(), 200)).thenReturn(List.of(event(201, "Achilles the Swift")));
+
+        // When
+        Warrior warrior = repository.load(id).orElseThrow();
+
+        // Then
+        assertThat(warrior.getVersion()).isEqualTo(201);
+        assertThat(warrior.getName()).isEqualTo("Achilles the Swift");
+        verify(eventStore, never()).getEventsAfter(id.getValue(), 0);
+    }
+
+    @Test
+    void load_WhenSnapshotsAreOff_ShouldNotReadThem() {
+        // Given
+        properties.setSnapshotInterval(0);
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(id.getValue(), 0)).thenReturn(List.of(event(1, "Achilles")));
+
+        // When
+        repository.load(id);
+
+        // Then
+        verify(snapshotStore, never()).findLatest(any());
+    }
+
+    @Test
+    void load_WhenCached_ShouldRunNoQueryAndReturnAFreshInstance() {
+        // Given
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(id.getValue(), 0)).thenReturn(List.of(event(1, "Achilles")));
+        Warrior first = repository.load(id).orElseThrow();
+
+        // When
+        Warrior second = repository.load(id).orElseThrow();
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getVersion()).isEqualTo(1);
+        verify(eventStore, times(1)).getEventsAfter(any(), eq(0));
+        verify(snapshotStore, times(1)).findLatest(id);
+    }
+
+    @Test
+    void load_AfterEvict_ShouldReadTheStoreAgain() {
+        // Given
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(id.getValue(), 0)).thenReturn(List.of(event(1, "Achilles")));
+        Warrior warrior = repository.load(id).orElseThrow();
+
+        // When
+        repository.evict(List.of(warrior));
+        repository.load(id);
+
+        // Then
+        verify(eventStore, times(2)).getEventsAfter(id.getValue(), 0);
+    }
+
+    @Test
+    void load_ManyWarriors_ShouldKeepTheCacheWithinMaxEntries() {
+        // Given
+        properties.getCache().setMaxEntries(3);
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(any(), eq(0))).thenAnswer(invocation -> List.of(
+                created(invocation.getArgument(0), 1, "Achilles")));
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            repository.load(WarriorId.generate());
+        }
+
+        // Then
+        assertThat(repository.cachedAggregates()).isEqualTo(3);
+    }
+
+    @Test
+    void load_WhenCacheIsOff_ShouldAlwaysReadTheStore() {
+        // Given
+        properties.getCache().setMaxEntries(0);
+        WarriorRepository repository = repository();
+        when(eventStore.getEventsAfter(id.getValue(), 0)).thenReturn(List.of(event(1, "Achilles")));
+
+        // When
+        repository.load(id);
+        repository.load(id);
+
+        // Then
+        verify(eventStore, times(2)).getEventsAfter(id.getValue(), 0);
+    }
+
+    @Test
+    void committed_WhenVersionReachesTheInterval_ShouldWriteASnapshot() {
+        // Given
+        WarriorRepository repository = repository();
+
+        // When
+        repository.committed(List.of(committed(100)), List.of(99));
+
+        // Then
+        verify(snapshotStore).saveAll(List.of(snapshot(100, "Achilles")));
+    }
+
+    @Test
+    void committed_WhenVersionStaysWithinTheInterval_ShouldNotWriteASnapshot() {
+        // Given
+        WarriorRepository repository = repository();
+
+        // When: 100 was snapshotted by the commit that reached it
+        repository.committed(List.of(committed(101)), List.of(100));
+        repository.committed(List.of(committed(199)), List.of(101));
+
+        // Then
+        verify(snapshotStore, never()).saveAll(anyList());
+    }
+
+    @Test
+    void committed_WhenBatchCrossesSeveralMultiples_ShouldWriteOneSnapshotAtTheNewVersion() {
+        // Given
+        WarriorRepository repository = repository();
+
+        // When
+        repository.committed(List.of(committed(320)), List.of(150));
+
+        // Then
+        verify(snapshotStore).saveAll(List.of(snapshot(320, "Achilles")));
+    }
+
+    @Test
+    void committed_ShouldSnapshotOnlyTheWarriorsThatCrossed() {
+        // Given
+        WarriorRepository repository = repository();
+        Warrior crossed = committed(100);
+        WarriorId otherId = WarriorId.generate();
+        Warrior within = Warrior.fromEvents(otherId, List.of(created(otherId.getValue(), 50, "Hector")));
+
+        // When
+        repository.committed(List.of(within, crossed), List.of(49, 99));
+
+        // Then
+        verify(snapshotStore).saveAll(List.of(crossed.toSnapshot()));
+    }
+
+    @Test
+    void committed_WhenSnapshotsAreOff_ShouldNotWriteThem() {
+        // Given
+        properties.setSnapshotInterval(0);
+        WarriorRepository repository = repository();
+
+        // When
+        repository.committed(List.of(committed(100)), List.of(99));
+
+        // Then
+        verify(snapshotStore, never()).saveAll(anyList());
+    }
+
+    @Test
+    void committed_WhenSnapshotWriteFails_ShouldNotFailTheCommand() {
+        // Given
+        WarriorRepository repository = repository();
+        doThrow(new IllegalStateException("connection refused")).when(snapshotStore).saveAll(anyList());
+
+        // When
+        repository.committed(List.of(committed(100)), List.of(99));
+
+        // Then: the commit still refreshed the cache
+        assertThat(repository.load(id).orElseThrow().getVersion()).isEqualTo(100);
+    }
+
+    @Test
+    void committed_ExistingWarrior_ShouldRefreshItsCacheEntry() {
+        // Given
+        WarriorRepository repository = repository();
+
+        // When
+        repository.committed(List.of(committed(42)), List.of(41));
+
+        // Then
+        assertThat(repository.load(id).orElseThrow().getVersion()).isEqualTo(42);
+        verify(eventStore, never()).getEventsAfter(any(), eq(0));
+    }
+
+    @Test
+    void committed_NewWarrior_ShouldNotBeCached() {
+        // Given
+        WarriorRepository repository = repository();
+        Warrior created = Warrior.create(id, "Achilles", DOB, List.of("Spear"));
+        created.markEventsAsCommitted();
+
+        // When
+        repository.committed(List.of(created), List.of(0));
+
+        // Then
+        assertThat(repository.cachedAggregates()).isZero();
+    }
+
+    private WarriorRepository repository() {
+        return new WarriorRepository(eventStore, snapshotStore, properties);
+    }
+
+    private Warrior committed(int version) {
+        return Warrior.fromEvents(id, List.of(event(version, "Achilles")));
+    }
+
+    private WarriorSnapshot snapshot(int version, String name) {
+        return new WarriorSnapshot(id, version, name, DOB, List.of("Spear"));
+    }
+
+    private DomainEvent event(int version, String name) {
+        return created(id.getValue(), version, name);
+    }
+
+    private static WarriorCreatedEvent created(UUID aggregateId, int version, String name) {
+        return WarriorCreatedEvent.builder()
+                .eventId(UUID.randomUUID())
+                .aggregateId(aggregateId)
+                .version(version)
+                .occurredAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .name(name)
+                .dob(DOB)
+                .fightSkills(List.of("Spear"))
+                .build();
+    }
+}
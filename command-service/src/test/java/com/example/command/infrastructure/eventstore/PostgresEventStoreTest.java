@@ -0,0 +1,175 @@
+package com.example.command.infrastructure.eventstore;
+
+import com.example.shared.events.DomainEvent;
+import com.example.shared.events.WarriorCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresEventStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostgresEventStore eventStore;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = new PostgresEventStore(jdbcTemplate, transactionManager, new EventStoreProperties());
+    }
+
+    @Test
+    void save_WhenFirstEventDoesNotFollowExpectedVersion_ShouldRejectBeforeWriting() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+
+        // When & Then
+        assertThatThrownBy(() -> eventStore.save(aggregateId, List.of(event(aggregateId, 2)), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must continue from v0, got v2 at position 0");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void saveAll_WhenVersionsHaveAGap_ShouldRejectBeforeWriting() {
+        // Given
+        UUID valid = UUID.randomUUID();
+        UUID gapped = UUID.randomUUID();
+        List<AggregateEvents> appends = List.of(
+                new AggregateEvents(valid, List.of(event(valid, 1)), 0),
+                new AggregateEvents(gapped, List.of(event(gapped, 4), event(gapped, 6)), 3));
+
+        // When & Then
+        assertThatThrownBy(() -> eventStore.saveAll(appends))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must continue from v3, got v6 at position 1");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void saveAll_WhenVersionsAreContiguous_ShouldWriteOneStatement() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<AggregateEvents> appends = List.of(
+                new AggregateEvents(first, List.of(event(first, 1), event(first, 2)), 0),
+                new AggregateEvents(second, List.of(event(second, 5)), 4));
+
+        // When
+        eventStore.saveAll(appends);
+
+        // Then
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void save_WhenVersionConstraintIsViolated_ShouldThrowConcurrencyException() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        doThrow(duplicateKey("unique_aggregate_version"))
+                .when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        // When & Then
+        assertThatThrownBy(() -> eventStore.save(aggregateId, List.of(event(aggregateId, 1)), 0))
+                .isInstanceOf(ConcurrencyException.class)
+                .hasMessage("Aggregate %s modified. Expected v0, but v1 already exists", aggregateId);
+    }
+
+    @Test
+    void save_WhenAnotherUniqueConstraintIsViolated_ShouldRethrowIt() {
+        // Given: the message names the version constraint, but the server says which one failed
+        UUID aggregateId = UUID.randomUUID();
+        doThrow(duplicateKey("event_store_pkey"))
+                .when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        // When & Then
+        assertThatThrownBy(() -> eventStore.save(aggregateId, List.of(event(aggregateId, 1)), 0))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void save_InBinaryFormat_ShouldBindTheUnusedJsonColumnAsATypedNull() {
+        // Given
+        UUID aggregateId = UUID.randomUUID();
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        eventStore.save(aggregateId, List.of(event(aggregateId, 1)), 0);
+
+        // Then: an untyped null would cost a describe round trip per statement
+        verify(jdbcTemplate).update(anyString(), args.capture());
+        assertThat(args.getValue()[5]).isInstanceOf(byte[].class);
+        assertThat(args.getValue()[6]).isInstanceOfSatisfying(SqlParameterValue.class, value -> {
+            assertThat(value.getSqlType()).isEqualTo(Types.VARCHAR);
+            assertThat(value.getValue()).isNull();
+        });
+    }
+
+    @Test
+    void save_InJsonFormat_ShouldBindTheUnusedPayloadColumnAsATypedNull() {
+        // Given
+        EventStoreProperties properties = new EventStoreProperties();
+        properties.setPayloadFormat(EventStoreProperties.PayloadFormat.JSON);
+        eventStore = new PostgresEventStore(jdbcTemplate, transactionManager, properties);
+        UUID aggregateId = UUID.randomUUID();
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        eventStore.save(aggregateId, List.of(event(aggregateId, 1)), 0);
+
+        // Then
+        verify(jdbcTemplate).update(anyString(), args.capture());
+        assertThat(args.getValue()[5]).isInstanceOfSatisfying(SqlParameterValue.class, value -> {
+            assertThat(value.getSqlType()).isEqualTo(Types.BINARY);
+            assertThat(value.getValue()).isNull();
+        });
+        assertThat(args.getValue()[6]).isInstanceOf(String.class);
+    }
+
+    private static DuplicateKeyException duplicateKey(String constraint) {
+        ServerErrorMessage error = new ServerErrorMessage(
+                "SERROR\0C23505\0Mduplicate key value violates unique constraint \"unique_aggregate_version\"\0n"
+                        + constraint + "\0");
+        return new DuplicateKeyException("INSERT INTO event_store failed", new PSQLException(error));
+    }
+
+    private static DomainEvent event(UUID aggregateId, int version) {
+        return WarriorCreatedEvent.builder()
+                .eventId(UUID.randomUUID())
+                .aggregateId(aggregateId)
+                .version(version)
+                .occurredAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .name("Achilles")
+                .dob(LocalDate.of(1990, 5, 15))
+                .fightSkills(List.of("Swordsmanship"))
+                .build();
+    }
+}
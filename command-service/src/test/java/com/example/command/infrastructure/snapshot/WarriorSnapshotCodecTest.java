@@ -0,0 +1,87 @@
+package com.example.command.infrastructure.snapshot;
+
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.domain.warrior.WarriorSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WarriorSnapshotCodecTest {
+
+    private static final WarriorSnapshot ACHILLES = new WarriorSnapshot(
+            WarriorId.of(UUID.fromString("0190f3a2-7b1c-7d4e-8f00-aabbccddeeff")),
+            300,
+            "Achilles",
+            LocalDate.of(1990, 5, 15),
+            List.of("Spear", "Shield Combat"));
+
+    // Schema 1 of ACHILLES, as stored in aggregate_snapshot
+    private static final byte[] SNAPSHOT_V1 = HexFormat.of().parseHex(
+            "01"                                                  // schema
+                    + "0190f3a27b1c7d4e8f00aabbccddeeff"          // id
+                    + "0000012c"                                  // version
+                    + "00001d0f"                                  // dob as epoch day
+                    + "0008" + "416368696c6c6573"                 // name
+                    + "0002"                                      // skill count
+                    + "0005" + "5370656172"                       // Spear
+                    + "000d" + "536869656c6420436f6d626174");     // Shield Combat
+
+    @Test
+    void encode_ShouldWriteSchemaV1Bytes() {
+        assertThat(WarriorSnapshotCodec.encode(ACHILLES)).isEqualTo(SNAPSHOT_V1);
+    }
+
+    @Test
+    void decode_SchemaV1_ShouldReadGoldenBytes() {
+        assertThat(WarriorSnapshotCodec.decode(SNAPSHOT_V1)).isEqualTo(ACHILLES);
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveEveryField() {
+        // Given
+        WarriorSnapshot snapshot = new WarriorSnapshot(WarriorId.generate(), Integer.MAX_VALUE,
+                "\u0391\u03c7\u03b9\u03bb\u03bb\u03b5\u03cd\u03c2", LocalDate.of(1, 1, 1),
+                List.of("\u0394\u03cc\u03c1\u03c5", "", "x".repeat(500)));
+
+        // When & Then
+        assertThat(WarriorSnapshotCodec.decode(WarriorSnapshotCodec.encode(snapshot))).isEqualTo(snapshot);
+    }
+
+    @Test
+    void roundTrip_WithoutSkills_ShouldDecodeEmptyList() {
+        // Given
+        WarriorSnapshot snapshot = new WarriorSnapshot(
+                WarriorId.generate(), 100, "Hector", LocalDate.of(1988, 3, 20), List.of());
+
+        // When & Then
+        assertThat(WarriorSnapshotCodec.decode(WarriorSnapshotCodec.encode(snapshot))).isEqualTo(snapshot);
+    }
+
+    @Test
+    void decode_UnknownSchema_ShouldReadAsMissing() {
+        // Given
+        byte[] future = SNAPSHOT_V1.clone();
+        future[0] = 2;
+
+        // When & Then
+        assertThat(WarriorSnapshotCodec.decode(future)).isNull();
+    }
+
+    @Test
+    void encode_FieldOverU16Length_ShouldBeRejected() {
+        // Given
+        WarriorSnapshot snapshot = new WarriorSnapshot(
+                WarriorId.generate(), 100, "a".repeat(0x10000), LocalDate.of(1988, 3, 20), List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> WarriorSnapshotCodec.encode(snapshot))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Field too long for the snapshot schema: 65536");
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.command.ingress;
+
+import com.example.command.api.CreateWarriorRequest;
+import com.example.command.api.WarriorCommandHandler;
+import com.example.command.domain.warrior.Warrior;
+import com.example.command.domain.warrior.WarriorId;
+import com.example.command.infrastructure.eventstore.ConcurrencyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class CommandIngressTest {
+
+    @Mock
+    private WarriorCommandHandler commandHandler;
+
+    private final List<List<String>> commits = new CopyOnWriteArrayList<>();
+    private final CommandIngressProperties settings = new CommandIngressProperties();
+    private CommandIngress ingress;
+
+    @BeforeEach
+    void setUp() {
+        settings.setConsumers(1);
+        settings.setResponseTimeout(Duration.ofSeconds(5));
+        lenient().when(commandHandler.create(any())).thenAnswer(invocation -> {
+            CreateWarriorRequest command = invocation.getArgument(0);
+            if (command.getName().equals("Boom")) {
+                throw new IllegalStateException("handler bug");
+            }
+            return Warrior.create(WarriorId.generate(), command.getName(), command.getDob(), command.getFightSkills());
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (ingress != null) {
+            ingress.stop();
+        }
+    }
+
+    @Test
+    void submit_WhenCommandsArriveTogether_ShouldCommitThemInOneBatch() throws Exception {
+        // Given
+        settings.setBatchSize(3);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        recordCommits();
+        ingress = start();
+
+        // When
+        List<CompletableFuture<UUID>> submitted = List.of(
+                ingress.submit(command("Achilles")), ingress.submit(command("Hector")), ingress.submit(command("Ajax")));
+
+        // Then
+        for (CompletableFuture<UUID> future : submitted) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+        }
+        assertThat(commits).containsExactly(List.of("Achilles", "Hector", "Ajax"));
+    }
+
+    @Test
+    void submit_WhenRingIsFull_ShouldRejectWithoutBlocking() {
+        // Given: nothing drains, and submit does not wait, so the ring fills
+        settings.setConsumers(0);
+        settings.setCapacity(2);
+        ingress = start();
+        ingress.submit(command("Achilles"));
+        ingress.submit(command("Hector"));
+
+        // When & Then
+        assertThatThrownBy(() -> ingress.submit(command("Ajax")))
+                .isInstanceOf(IngressOverloadedException.class)
+                .hasMessageContaining("full");
+    }
+
+    @Test
+    void submit_WhenTimedOutInRing_ShouldAnswer503AndNeverCommit() throws Exception {
+        // Given
+        settings.setBatchSize(1);
+        settings.setMaxLinger(Duration.ZERO);
+        settings.setResponseTimeout(Duration.ofMillis(200));
+        CountDownLatch firstCommitStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstCommit = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<Warrior> warriors = invocation.getArgument(0);
+            commits.add(warriors.stream().map(Warrior::getName).toList());
+            firstCommitStarted.countDown();
+            releaseFirstCommit.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(commandHandler).commit(anyList());
+        ingress = start();
+        CompletableFuture<UUID> taken = ingress.submit(command("Achilles"));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<UUID> waiting = ingress.submit(command("Hector"));
+
+        // Then
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IngressOverloadedException.class)
+                .hasMessageContaining("dropped");
+        assertThatThrownBy(() -> taken.get(5, TimeUnit.SECONDS))
+                .hasMessageContaining("may still be created");
+        releaseFirstCommit.countDown();
+        ingress.stop();
+        assertThat(commits).containsExactly(List.of("Achilles"));
+    }
+
+    @Test
+    void submit_WhenProcessingThrowsUnexpectedly_ShouldFailThatBatchAndKeepConsuming() throws Exception {
+        // Given
+        settings.setBatchSize(1);
+        settings.setMaxLinger(Duration.ZERO);
+        recordCommits();
+        ingress = start();
+
+        // When
+        CompletableFuture<UUID> broken = ingress.submit(command("Boom"));
+
+        // Then
+        assertThatThrownBy(() -> broken.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(ingress.submit(command("Achilles")).get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(commits).containsExactly(List.of("Achilles"));
+    }
+
+    @Test
+    void submit_WhenCommandBreaksDomainRule_ShouldFailOnlyThatCommand() throws Exception {
+        // Given
+        settings.setBatchSize(2);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        recordCommits();
+        ingress = start();
+
+        // When
+        CompletableFuture<UUID> invalid = ingress.submit(
+                new CreateWarriorRequest("Achilles", LocalDate.of(1990, 5, 15), List.of("x".repeat(51))));
+        CompletableFuture<UUID> valid = ingress.submit(command("Hector"));
+
+        // Then
+        assertThat(valid.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> invalid.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(commits).containsExactly(List.of("Hector"));
+    }
+
+    @Test
+    void submit_WhenBatchHitsAVersionConflict_ShouldRetryCommandsOneByOne() throws Exception {
+        // Given
+        settings.setBatchSize(2);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        doAnswer(invocation -> {
+            List<Warrior> warriors = invocation.getArgument(0);
+            List<String> names = warriors.stream().map(Warrior::getName).toList();
+            commits.add(names);
+            if (names.contains("Ajax")) {
+                throw new ConcurrencyException("Aggregate modified");
+            }
+            return null;
+        }).when(commandHandler).commit(anyList());
+        ingress = start();
+
+        // When
+        CompletableFuture<UUID> conflicting = ingress.submit(command("Ajax"));
+        CompletableFuture<UUID> valid = ingress.submit(command("Hector"));
+
+        // Then
+        assertThat(valid.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> conflicting.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ConcurrencyException.class);
+        assertThat(commits).containsExactly(List.of("Ajax", "Hector"), List.of("Ajax"), List.of("Hector"));
+    }
+
+    @Test
+    void submit_WhenEventStoreIsUnreachable_ShouldFailTheWholeBatchWithoutRetrying() throws Exception {
+        // Given
+        settings.setBatchSize(3);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        doAnswer(invocation -> {
+            List<Warrior> warriors = invocation.getArgument(0);
+            commits.add(warriors.stream().map(Warrior::getName).toList());
+            throw new CannotGetJdbcConnectionException("Connection refused");
+        }).when(commandHandler).commit(anyList());
+        ingress = start();
+
+        // When
+        List<CompletableFuture<UUID>> submitted = List.of(
+                ingress.submit(command("Achilles")), ingress.submit(command("Hector")), ingress.submit(command("Ajax")));
+
+        // Then
+        for (CompletableFuture<UUID> future : submitted) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(CannotGetJdbcConnectionException.class);
+        }
+        assertThat(commits).containsExactly(List.of("Achilles", "Hector", "Ajax"));
+    }
+
+    private CommandIngress start() {
+        CommandIngress started = new CommandIngress(commandHandler, settings);
+        started.start();
+        return started;
+    }
+
+    private void recordCommits() {
+        doAnswer(invocation -> {
+            List<Warrior> warriors = invocation.getArgument(0);
+            commits.add(warriors.stream().map(Warrior::getName).toList());
+            return null;
+        }).when(commandHandler).commit(anyList());
+    }
+
+    private static CreateWarriorRequest command(String name) {
+        return new CreateWarriorRequest(name, LocalDate.of(1990, 5, 15), List.of("Swordsmanship"));
+    }
+}
@@ -1,5 +1,9 @@
 -- Event Store Schema
 -- Append-only event log with optimistic locking
+--
+-- Runs only when the eventstore-db volume is first created. The command service's
+-- Flyway migrations (command-service/src/main/resources/db/migration) bring existing
+-- databases up to date; change the schema there and mirror it here.
 
 CREATE TABLE IF NOT EXISTS event_store (
     event_id UUID PRIMARY KEY,
@@ -7,12 +11,16 @@ CREATE TABLE IF NOT EXISTS event_store (
     aggregate_type VARCHAR(100) NOT NULL,
     event_type VARCHAR(100) NOT NULL,
     event_version INT NOT NULL,
-    event_data JSONB NOT NULL,
+    -- DomainEventCodec bytes; event_data holds JSON instead (payload-format json, older rows)
+    event_payload BYTEA,
+    event_data JSONB,
     created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
     sequence_number BIGSERIAL,
     
     CONSTRAINT unique_aggregate_version 
-        UNIQUE (aggregate_id, event_version)
+        UNIQUE (aggregate_id, event_version),
+    CONSTRAINT event_payload_present
+        CHECK (event_payload IS NOT NULL OR event_data IS NOT NULL)
 );
 
 -- Indexes for fast event retrieval
@@ -25,6 +33,24 @@ CREATE INDEX IF NOT EXISTS idx_event_store_type
 CREATE INDEX IF NOT EXISTS idx_event_store_sequence 
     ON event_store(sequence_number);
 
+-- Outbox relay checkpoints: last sequence_number published to Kafka, per relay
+CREATE TABLE IF NOT EXISTS outbox_checkpoint (
+    relay VARCHAR(100) PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Latest snapshot per aggregate (WarriorSnapshotCodec bytes); loads replay only later events
+CREATE TABLE IF NOT EXISTS aggregate_snapshot (
+    aggregate_id UUID PRIMARY KEY,
+    aggregate_type VARCHAR(100) NOT NULL,
+    aggregate_version INT NOT NULL,
+    snapshot_data BYTEA NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
 -- Grant permissions
 GRANT ALL PRIVILEGES ON TABLE event_store TO es_user;
+GRANT ALL PRIVILEGES ON TABLE outbox_checkpoint TO es_user;
+GRANT ALL PRIVILEGES ON TABLE aggregate_snapshot TO es_user;
 GRANT USAGE, SELECT ON SEQUENCE event_store_sequence_number_seq TO es_user;
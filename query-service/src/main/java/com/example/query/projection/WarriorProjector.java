@@ -2,9 +2,8 @@ package com.example.query.projection;
 
 import com.example.query.readmodel.WarriorReadModel;
 import com.example.query.readmodel.WarriorReadModelRepository;
+import com.example.shared.events.DomainEvent;
 import com.example.shared.events.WarriorCreatedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -21,22 +20,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class WarriorProjector {
     
     private final WarriorReadModelRepository repository;
-    private final ObjectMapper objectMapper = new ObjectMapper()
-        .registerModule(new JavaTimeModule());
     
     /**
-     * Listen to warrior events and project into read model
+     * Listen to warrior events and project into read model;
+     * DomainEventDeserializer has already decoded them
      */
     @KafkaListener(topics = "warrior-events", groupId = "warrior-read-projection")
     @Transactional
-    public void projectEvent(String eventJson) {
+    public void projectEvent(DomainEvent domainEvent) {
+        if (!(domainEvent instanceof WarriorCreatedEvent event)) {
+            log.debug("Ignoring event type {}", domainEvent.getEventType());
+            return;
+        }
         try {
-            // Deserialize event
-            WarriorCreatedEvent event = objectMapper.readValue(
-                eventJson, 
-                WarriorCreatedEvent.class
-            );
-            
             // Check if already processed (idempotency)
             if (repository.existsById(event.getAggregateId())) {
                 log.debug("Event already processed: {}", event.getEventId());
@@ -59,7 +55,7 @@ public class WarriorProjector {
                 event.getName(), event.getAggregateId());
                 
         } catch (Exception e) {
-            log.error("Failed to project event: {}", eventJson, e);
+            log.error("Failed to project event {} for {}", event.getEventId(), event.getAggregateId(), e);
             // In production: send to DLQ for manual handling
         }
     }
@@ -0,0 +1,78 @@
+package com.example.shared.events.codec;
+
+import com.example.shared.events.WarriorCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson JSON, as the event store and the Kafka topic used to carry events,
+ * against DomainEventCodec, for one WarriorCreated event each way. Run with the gc
+ * profiler (the default in build.gradle) to compare bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainEventCodecBenchmark {
+
+    private ObjectWriter jsonWriter;
+    private ObjectReader jsonReader;
+    private WarriorCreatedEvent event;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        jsonWriter = objectMapper.writerFor(WarriorCreatedEvent.class);
+        jsonReader = objectMapper.readerFor(WarriorCreatedEvent.class);
+
+        event = new WarriorCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), 1, Instant.now(),
+            "Leonidas of Sparta", LocalDate.of(1980, 7, 14),
+            List.of("Swordsmanship", "Shield Combat", "Archery"));
+        json = jsonWriter.writeValueAsBytes(event);
+        binary = DomainEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeJackson() throws Exception {
+        return jsonWriter.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return DomainEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public Object decodeJackson() throws Exception {
+        return jsonReader.readValue(json);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return DomainEventCodec.decode(binary);
+    }
+
+    /**
+     * A JSON row or message read through the codec's upcasting path
+     */
+    @Benchmark
+    public Object decodeLegacyJson() {
+        return DomainEventCodec.decode(json);
+    }
+}
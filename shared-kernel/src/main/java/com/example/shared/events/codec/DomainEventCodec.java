@@ -0,0 +1,143 @@
+package com.example.shared.events.codec;
+
+import com.example.shared.events.DomainEvent;
+import com.example.shared.events.WarriorCreatedEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact, versioned binary form of {@link DomainEvent}s, shared by the event store
+ * and the Kafka serdes.
+ *
+ * Layout: a magic byte, the event type id and the type's schema version, then the
+ * body. UUIDs are two longs, instants epoch seconds plus nanos, dates epoch days,
+ * and strings and lists are prefixed with an unsigned 16-bit length.
+ *
+ * Decoding upcasts: every schema version a type ever had keeps its reader, which
+ * fills in whatever later versions added, so callers only ever see the current
+ * event classes. Events written as JSON before this codec existed are recognised
+ * by their leading '{' and read as the oldest version of all.
+ */
+public final class DomainEventCodec {
+
+    static final byte MAGIC = (byte) 0xDE;
+
+    static final byte WARRIOR_CREATED = 1;
+    static final byte WARRIOR_CREATED_SCHEMA = 1;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int MAX_LENGTH = 0xFFFF;
+
+    private DomainEventCodec() {
+    }
+
+    public static byte[] encode(DomainEvent event) {
+        if (event instanceof WarriorCreatedEvent created) {
+            return encodeWarriorCreated(created);
+        }
+        throw new IllegalArgumentException("No binary schema for event type " + event.getEventType());
+    }
+
+    /**
+     * Reads an event in any binary schema version, or in the legacy JSON form
+     */
+    public static DomainEvent decode(byte[] data) {
+        if (LegacyJsonEvents.isJson(data)) {
+            return LegacyJsonEvents.read(data);
+        }
+        if (data.length < HEADER_SIZE || data[0] != MAGIC) {
+            throw new IllegalArgumentException("Not a binary domain event");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        byte type = data[1];
+        byte schema = data[2];
+        if (type == WARRIOR_CREATED) {
+            return switch (schema) {
+                case 1 -> readWarriorCreatedV1(buffer);
+                default -> throw unknownSchema("WarriorCreated", schema);
+            };
+        }
+        throw new IllegalArgumentException("Unknown event type id " + type);
+    }
+
+    private static byte[] encodeWarriorCreated(WarriorCreatedEvent event) {
+        byte[] name = event.getName().getBytes(StandardCharsets.UTF_8);
+        List<String> skills = event.getFightSkills() != null ? event.getFightSkills() : List.of();
+        byte[][] skillBytes = new byte[skills.size()][];
+        int size = HEADER_SIZE + 16 + 16 + 4 + 12 + 4 + 2 + name.length + 2;
+        for (int i = 0; i < skillBytes.length; i++) {
+            skillBytes[i] = skills.get(i).getBytes(StandardCharsets.UTF_8);
+            size += 2 + skillBytes[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+            .put(MAGIC)
+            .put(WARRIOR_CREATED)
+            .put(WARRIOR_CREATED_SCHEMA);
+        putUuid(buffer, event.getEventId());
+        putUuid(buffer, event.getAggregateId());
+        buffer.putInt(event.getVersion())
+            .putLong(event.getOccurredAt().getEpochSecond())
+            .putInt(event.getOccurredAt().getNano())
+            .putInt((int) event.getDob().toEpochDay());
+        putBytes(buffer, name);
+        buffer.putShort(length(skillBytes.length));
+        for (byte[] skill : skillBytes) {
+            putBytes(buffer, skill);
+        }
+        return buffer.array();
+    }
+
+    private static WarriorCreatedEvent readWarriorCreatedV1(ByteBuffer buffer) {
+        UUID eventId = getUuid(buffer);
+        UUID aggregateId = getUuid(buffer);
+        int version = buffer.getInt();
+        Instant occurredAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+        LocalDate dob = LocalDate.ofEpochDay(buffer.getInt());
+        String name = getString(buffer);
+        int skillCount = Short.toUnsignedInt(buffer.getShort());
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(getString(buffer));
+        }
+        return new WarriorCreatedEvent(eventId, aggregateId, version, occurredAt, name, dob, skills);
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort(length(bytes.length)).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static short length(int length) {
+        if (length > MAX_LENGTH) {
+            throw new IllegalArgumentException("Field too long for the binary event schema: " + length);
+        }
+        return (short) length;
+    }
+
+    private static IllegalArgumentException unknownSchema(String type, byte schema) {
+        return new IllegalArgumentException(
+            "Unknown " + type + " schema version " + schema + "; this build reads up to " + WARRIOR_CREATED_SCHEMA);
+    }
+}
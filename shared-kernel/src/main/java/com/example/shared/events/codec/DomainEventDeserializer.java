@@ -0,0 +1,16 @@
+package com.example.shared.events.codec;
+
+import com.example.shared.events.DomainEvent;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka value deserializer for {@link DomainEventCodec} events; also reads JSON
+ * events published before the codec, so a topic can hold both
+ */
+public class DomainEventDeserializer implements Deserializer<DomainEvent> {
+
+    @Override
+    public DomainEvent deserialize(String topic, byte[] data) {
+        return data == null ? null : DomainEventCodec.decode(data);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.shared.events.codec;
+
+import com.example.shared.events.DomainEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer writing {@link DomainEventCodec} binary events
+ */
+public class DomainEventSerializer implements Serializer<DomainEvent> {
+
+    @Override
+    public byte[] serialize(String topic, DomainEvent event) {
+        return event == null ? null : DomainEventCodec.encode(event);
+    }
+}
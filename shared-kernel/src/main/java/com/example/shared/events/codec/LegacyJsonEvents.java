@@ -0,0 +1,53 @@
+package com.example.shared.events.codec;
+
+import com.example.shared.events.DomainEvent;
+import com.example.shared.events.WarriorCreatedEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Reader for events stored or published as Jackson JSON before the binary codec:
+ * event_store rows with only event_data, and messages already on the topic
+ */
+final class LegacyJsonEvents {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private LegacyJsonEvents() {
+    }
+
+    /**
+     * JSON objects start with '{', possibly after whitespace; binary events with the magic byte
+     */
+    static boolean isJson(byte[] data) {
+        for (byte b : data) {
+            if (b == '{') {
+                return true;
+            }
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    static DomainEvent read(byte[] json) {
+        try {
+            JsonNode tree = MAPPER.readTree(json);
+            String eventType = tree.path("eventType").asText();
+            return switch (eventType) {
+                case "WarriorCreated" -> MAPPER.treeToValue(tree, WarriorCreatedEvent.class);
+                default -> throw new IllegalArgumentException("Unknown event: " + eventType);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON event", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.shared.validation;
+
+import java.util.Map;
+
+/**
+ * A create-warrior payload failed {@link WarriorPayloadValidator}; services map
+ * it to a 400 carrying the violations. Stackless, as it reports a client error.
+ */
+public class InvalidWarriorPayloadException extends RuntimeException {
+
+    private final transient Map<String, String> violations;
+
+    public InvalidWarriorPayloadException(Map<String, String> violations) {
+        super("Validation failed", null, false, false);
+        this.violations = violations;
+    }
+
+    public Map<String, String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Throws when the result of {@link WarriorPayloadValidator#validate} has any violation
+     */
+    public static void throwIfInvalid(Map<String, String> violations) {
+        if (!violations.isEmpty()) {
+            throw new InvalidWarriorPayloadException(violations);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.shared.validation;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written validation of a create-warrior payload, shared by every service
+ * that accepts one.
+ *
+ * One pass over the fields and one pass over the skills: blank checks scan
+ * characters instead of trimming, lengths are summed in the same loop, and a
+ * valid payload allocates nothing. Blank means what it meant to @NotBlank and
+ * String.trim(): nothing but characters up to U+0020. Violations come back as field -> message,
+ * the validationErrors of the 400 response.
+ */
+public final class WarriorPayloadValidator {
+
+    public static final int MAX_NAME_LENGTH = 100;
+    public static final int MAX_SKILLS = 20;
+    public static final int MAX_TOTAL_SKILL_LENGTH = 250;
+
+    public static final String NAME_REQUIRED = "Name is required";
+    public static final String NAME_SIZE = "Name must be between 1 and " + MAX_NAME_LENGTH + " characters";
+    public static final String DOB_REQUIRED = "Date of birth is required";
+    public static final String SKILLS_REQUIRED = "Fight skills are required";
+    public static final String SKILLS_INVALID = "Fight skills must have at most " + MAX_SKILLS
+            + " items and a total of " + MAX_TOTAL_SKILL_LENGTH + " characters";
+
+    private WarriorPayloadValidator() {
+    }
+
+    /**
+     * Returns the violations of the payload; an empty, shared map when it is valid
+     */
+    public static Map<String, String> validate(String name, LocalDate dob, List<String> fightSkills) {
+        Map<String, String> violations = Map.of();
+
+        if (isBlank(name)) {
+            violations = add(violations, "name", NAME_REQUIRED);
+        } else if (name.length() > MAX_NAME_LENGTH) {
+            violations = add(violations, "name", NAME_SIZE);
+        }
+
+        if (dob == null) {
+            violations = add(violations, "dob", DOB_REQUIRED);
+        }
+
+        if (fightSkills == null) {
+            violations = add(violations, "fightSkills", SKILLS_REQUIRED);
+        } else if (!skillsValid(fightSkills)) {
+            violations = add(violations, "fightSkills", SKILLS_INVALID);
+        }
+
+        return violations;
+    }
+
+    /**
+     * True for null, empty or text that trim() would empty, without trimming
+     */
+    public static boolean isBlank(String text) {
+        if (text == null) {
+            return true;
+        }
+        for (int i = 0, length = text.length(); i < length; i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean skillsValid(List<String> fightSkills) {
+        int size = fightSkills.size();
+        if (size > MAX_SKILLS) {
+            return false;
+        }
+        int totalLength = 0;
+        // Indexed loop: request lists are ArrayLists, and this avoids the iterator
+        for (int i = 0; i < size; i++) {
+            String skill = fightSkills.get(i);
+            if (isBlank(skill)) {
+                return false;
+            }
+            totalLength += skill.length();
+            if (totalLength > MAX_TOTAL_SKILL_LENGTH) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> add(Map<String, String> violations, String field, String message) {
+        Map<String, String> mutable = violations.isEmpty() ? new LinkedHashMap<>(4) : violations;
+        mutable.put(field, message);
+        return mutable;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.shared.events.codec;
+
+import com.example.shared.events.DomainEvent;
+import com.example.shared.events.WarriorCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventCodecTest {
+
+    private static final WarriorCreatedEvent ACHILLES = new WarriorCreatedEvent(
+            UUID.fromString("0190f3a2-7b1c-7d4e-8f00-112233445566"),
+            UUID.fromString("0190f3a2-7b1c-7d4e-8f00-aabbccddeeff"),
+            1,
+            Instant.ofEpochSecond(1_767_225_600L, 123_456_789),
+            "Achilles",
+            LocalDate.of(1990, 5, 15),
+            List.of("Spear", "Shield Combat"));
+
+    // WarriorCreated schema 1 of ACHILLES. Bytes already in event_store and on the topic:
+    // if this test fails, add a new schema version instead of changing this one
+    private static final byte[] WARRIOR_CREATED_V1 = HexFormat.of().parseHex(
+            "de" + "01" + "01"                                    // magic, WarriorCreated, schema 1
+                    + "0190f3a27b1c7d4e8f00112233445566"          // eventId
+                    + "0190f3a27b1c7d4e8f00aabbccddeeff"          // aggregateId
+                    + "00000001"                                  // version
+                    + "000000006955b900" + "075bcd15"             // occurredAt seconds, nanos
+                    + "00001d0f"                                  // dob as epoch day
+                    + "0008" + "416368696c6c6573"                 // name
+                    + "0002"                                      // skill count
+                    + "0005" + "5370656172"                       // Spear
+                    + "000d" + "536869656c6420436f6d626174");     // Shield Combat
+
+    @Test
+    void encode_WarriorCreated_ShouldWriteSchemaV1Bytes() {
+        assertThat(DomainEventCodec.encode(ACHILLES)).isEqualTo(WARRIOR_CREATED_V1);
+    }
+
+    @Test
+    void decode_WarriorCreatedV1_ShouldReadGoldenBytes() {
+        assertThat(DomainEventCodec.decode(WARRIOR_CREATED_V1)).isEqualTo(ACHILLES);
+    }
+
+    @Test
+    void roundTrip_WarriorCreated_ShouldPreserveEveryField() {
+        // Given
+        WarriorCreatedEvent event = new WarriorCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), 7, Instant.now(),
+                "\u0391\u03c7\u03b9\u03bb\u03bb\u03b5\u03cd\u03c2",
+                LocalDate.of(1, 1, 1),
+                List.of("\u0394\u03cc\u03c1\u03c5", "", "x".repeat(500)));
+
+        // When
+        DomainEvent decoded = DomainEventCodec.decode(DomainEventCodec.encode(event));
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void roundTrip_WarriorCreatedWithoutSkills_ShouldDecodeEmptyList() {
+        // Given
+        WarriorCreatedEvent event = new WarriorCreatedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), 1, Instant.EPOCH, "Hector", LocalDate.of(1988, 3, 20), null);
+
+        // When
+        WarriorCreatedEvent decoded = (WarriorCreatedEvent) DomainEventCodec.decode(DomainEventCodec.encode(event));
+
+        // Then
+        assertThat(decoded.getFightSkills()).isEmpty();
+        assertThat(decoded.getName()).isEqualTo("Hector");
+    }
+
+    @Test
+    void decode_LegacyJson_ShouldReadEventsWrittenBeforeTheCodec() {
+        // Given: event_data as the event store wrote it, timestamps as numbers, after leading whitespace
+        String json = """
+                  {"eventId":"0190f3a2-7b1c-7d4e-8f00-112233445566",\
+                "aggregateId":"0190f3a2-7b1c-7d4e-8f00-aabbccddeeff","version":1,\
+                "occurredAt":1767225600.123456789,"name":"Achilles","dob":[1990,5,15],\
+                "fightSkills":["Spear","Shield Combat"],"eventType":"WarriorCreated"}""";
+
+        // When
+        DomainEvent decoded = DomainEventCodec.decode(json.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(decoded).isEqualTo(ACHILLES);
+    }
+
+    @Test
+    void decode_LegacyJsonWithIsoDates_ShouldReadIt() {
+        // Given: messages published with WRITE_DATES_AS_TIMESTAMPS off
+        String json = "{\"eventId\":\"0190f3a2-7b1c-7d4e-8f00-112233445566\","
+                + "\"aggregateId\":\"0190f3a2-7b1c-7d4e-8f00-aabbccddeeff\",\"version\":1,"
+                + "\"occurredAt\":\"2026-01-01T00:00:00.123456789Z\",\"name\":\"Achilles\",\"dob\":\"1990-05-15\","
+                + "\"fightSkills\":[\"Spear\",\"Shield Combat\"],\"eventType\":\"WarriorCreated\"}";
+
+        // When
+        DomainEvent decoded = DomainEventCodec.decode(json.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(decoded).isEqualTo(ACHILLES);
+    }
+
+    @Test
+    void decode_UnknownSchemaVersion_ShouldBeRejected() {
+        // Given
+        byte[] future = WARRIOR_CREATED_V1.clone();
+        future[2] = 2;
+
+        // When & Then
+        assertThatThrownBy(() -> DomainEventCodec.decode(future))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown WarriorCreated schema version 2");
+    }
+
+    @Test
+    void decode_UnknownEventType_ShouldBeRejected() {
+        // Given
+        byte[] unknown = WARRIOR_CREATED_V1.clone();
+        unknown[1] = 9;
+
+        // When & Then
+        assertThatThrownBy(() -> DomainEventCodec.decode(unknown))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown event type id 9");
+    }
+
+    @Test
+    void decode_WithoutMagicByte_ShouldBeRejected() {
+        assertThatThrownBy(() -> DomainEventCodec.decode(new byte[]{0x01, 0x01, 0x01}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a binary domain event");
+    }
+
+    @Test
+    void decode_LegacyJsonOfUnknownType_ShouldBeRejected() {
+        assertThatThrownBy(() -> DomainEventCodec.decode("{\"eventType\":\"WarriorRenamed\"}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown event: WarriorRenamed");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.shared.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.shared.validation.WarriorPayloadValidator.MAX_NAME_LENGTH;
+import static com.example.shared.validation.WarriorPayloadValidator.MAX_SKILLS;
+import static com.example.shared.validation.WarriorPayloadValidator.MAX_TOTAL_SKILL_LENGTH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarriorPayloadValidatorTest {
+
+    private static final LocalDate DOB = LocalDate.of(1990, 5, 15);
+    private static final List<String> SKILLS = List.of("Swordsmanship");
+
+    @Test
+    void validate_WhenPayloadIsValid_ShouldReturnNoViolations() {
+        assertThat(WarriorPayloadValidator.validate("Achilles", DOB, SKILLS)).isEmpty();
+    }
+
+    @Test
+    void validate_WhenEverythingIsMissing_ShouldReportEachField() {
+        // When
+        Map<String, String> violations = WarriorPayloadValidator.validate(null, null, null);
+
+        // Then
+        assertThat(violations).containsExactly(
+                Map.entry("name", WarriorPayloadValidator.NAME_REQUIRED),
+                Map.entry("dob", WarriorPayloadValidator.DOB_REQUIRED),
+                Map.entry("fightSkills", WarriorPayloadValidator.SKILLS_REQUIRED));
+    }
+
+    @Test
+    void validate_NameAtMaxLength_ShouldBeValid() {
+        assertThat(WarriorPayloadValidator.validate("a".repeat(MAX_NAME_LENGTH), DOB, SKILLS)).isEmpty();
+    }
+
+    @Test
+    void validate_NameOneOverMaxLength_ShouldBeRejected() {
+        assertThat(WarriorPayloadValidator.validate("a".repeat(MAX_NAME_LENGTH + 1), DOB, SKILLS))
+                .containsExactly(Map.entry("name", WarriorPayloadValidator.NAME_SIZE));
+    }
+
+    @Test
+    void validate_MaxSkills_ShouldBeValid() {
+        assertThat(WarriorPayloadValidator.validate("Achilles", DOB, Collections.nCopies(MAX_SKILLS, "Spear")))
+                .isEmpty();
+    }
+
+    @Test
+    void validate_OneSkillOverMax_ShouldBeRejected() {
+        assertThat(WarriorPayloadValidator.validate("Achilles", DOB, Collections.nCopies(MAX_SKILLS + 1, "Spear")))
+                .containsExactly(Map.entry("fightSkills", WarriorPayloadValidator.SKILLS_INVALID));
+    }
+
+    @Test
+    void validate_SkillsAtMaxTotalLength_ShouldBeValid() {
+        assertThat(WarriorPayloadValidator.validate("Achilles", DOB, skillsOfTotalLength(MAX_TOTAL_SKILL_LENGTH)))
+                .isEmpty();
+    }
+
+    @Test
+    void validate_SkillsOneCharacterOverMaxTotalLength_ShouldBeRejected() {
+        assertThat(WarriorPayloadValidator.validate("Achilles", DOB, skillsOfTotalLength(MAX_TOTAL_SKILL_LENGTH + 1)))
+                .containsExactly(Map.entry("fightSkills", WarriorPayloadValidator.SKILLS_INVALID));
+    }
+
+    @Test
+    void validate_BlankSkill_ShouldBeRejected() {
+        assertThat(WarriorPayloadValidator.validate("Achilles", DOB, List.of("Spear", " \t")))
+                .containsExactly(Map.entry("fightSkills", WarriorPayloadValidator.SKILLS_INVALID));
+    }
+
+    @Test
+    void isBlank_ShouldMatchTrimSemantics() {
+        // Blank for trim(): control characters up to U+0020
+        assertThat(WarriorPayloadValidator.isBlank(null)).isTrue();
+        assertThat(WarriorPayloadValidator.isBlank("")).isTrue();
+        assertThat(WarriorPayloadValidator.isBlank(" \t\r\n")).isTrue();
+        assertThat(WarriorPayloadValidator.isBlank("\u0000\u0007")).isTrue();
+
+        // Not blank for trim(), although Character.isWhitespace would say so
+        assertThat(WarriorPayloadValidator.isBlank("\u2003")).isFalse();
+        assertThat(WarriorPayloadValidator.isBlank("\u3000")).isFalse();
+        assertThat(WarriorPayloadValidator.isBlank(" a ")).isFalse();
+    }
+
+    private static List<String> skillsOfTotalLength(int totalLength) {
+        // Ten skills, the remainder spread over the first ones
+        List<String> skills = new ArrayList<>();
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            int length = totalLength / count + (i < totalLength % count ? 1 : 0);
+            skills.add("s".repeat(length));
+        }
+        return skills;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Object-then-Jackson responses against pre-encoded bytes from the lookup cache,
+ * for one lookup and for a full 50-warrior search page. Run with the gc profiler
+ * (the default in build.gradle) to compare bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WarriorJsonBenchmark {
+
+    private static final int SEARCH_PAGE = 50;
+
+    private ObjectWriter listWriter;
+    private WarriorJsonCodec jsonCodec;
+    private WarriorLookupCache lookupCache;
+    private List<WarriorResponse> page;
+    private UUID lookupId;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, WarriorResponse.class));
+        jsonCodec = new WarriorJsonCodec(objectMapper);
+        lookupCache = new WarriorLookupCache(new CacheProperties(), new SimpleMeterRegistry());
+
+        page = new ArrayList<>(SEARCH_PAGE);
+        for (int i = 0; i < SEARCH_PAGE; i++) {
+            WarriorResponse warrior = WarriorResponse.builder()
+                    .id(UUID.randomUUID())
+                    .name("Warrior " + i)
+                    .dob(LocalDate.of(1980 + i % 20, 1 + i % 12, 1 + i % 28))
+                    .fightSkills(List.of("Swordsmanship", "Shield Combat", "Archery"))
+                    .build();
+            page.add(warrior);
+            lookupCache.put(warrior.getId(), jsonCodec.encode(warrior));
+        }
+        lookupId = page.get(0).getId();
+    }
+
+    /**
+     * What a lookup cost before: the cached object re-serialized per request
+     */
+    @Benchmark
+    public byte[] lookupSerializeObject() {
+        return jsonCodec.encode(page.get(0));
+    }
+
+    @Benchmark
+    public byte[] lookupCachedBytes() {
+        return lookupCache.getJson(lookupId).orElseThrow();
+    }
+
+    @Benchmark
+    public byte[] searchSerializeList() throws Exception {
+        return listWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] searchAssembleCachedBytes() {
+        List<byte[]> elements = new ArrayList<>(page.size());
+        for (WarriorResponse warrior : page) {
+            elements.add(lookupCache.getJson(warrior.getId()).orElseThrow());
+        }
+        return WarriorJsonCodec.array(elements);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.api.bulkhead;
+
+/**
+ * Isolated workload classes; each gets its own executor and, optionally, its own connection pool.
+ * Inline workloads stream their request or response for longer than any async timeout, so they
+ * stay on the request thread and are bounded by a semaphore instead of an executor.
+ */
+public enum Bulkhead {
+    /**
+     * POST /warrior
+     */
+    WRITE,
+    /**
+     * GET /warrior/{id} and GET /counting-warriors
+     */
+    LOOKUP,
+    /**
+     * GET /warrior?t=
+     */
+    SEARCH,
+    /**
+     * POST /warriors/bulk
+     */
+    BULK(true),
+    /**
+     * GET /warriors/export
+     */
+    EXPORT(true);
+
+    private final boolean inline;
+
+    Bulkhead() {
+        this(false);
+    }
+
+    Bulkhead(boolean inline) {
+        this.inline = inline;
+    }
+
+    public boolean inline() {
+        return inline;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
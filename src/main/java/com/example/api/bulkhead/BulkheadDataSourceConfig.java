@@ -0,0 +1,88 @@
+package com.example.api.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Splits the connection pool per bulkhead (warrior.bulkhead.separate-pools).
+ *
+ * The write pool is the one configured under spring.datasource.hikari and
+ * also serves Flyway, the group-commit writers and anything else running
+ * outside a bulkhead. LOOKUP and SEARCH get copies of its settings with their
+ * own size and pool name, so a burst of slow searches can exhaust only its
+ * own connections. Each pool shows up in hikaricp.* metrics under its name.
+ *
+ * spring.datasource.hikari.maximum-pool-size is the instance's whole
+ * connection budget: the LOOKUP and SEARCH pools are carved out of it and the
+ * write pool keeps the rest, so splitting never opens more connections than
+ * a single pool would (see DOCS/BULKHEADS.md).
+ */
+@Configuration
+@ConditionalOnExpression("${warrior.bulkhead.enabled:true} and ${warrior.bulkhead.separate-pools:true}")
+public class BulkheadDataSourceConfig {
+
+    // Flyway, the group-commit writers, the WAL applier, bulk ingest and export all share the write pool
+    private static final int MIN_WRITE_POOL_SIZE = 10;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public HikariDataSource lookupDataSource(HikariDataSource writeDataSource, BulkheadProperties properties) {
+        return partition(writeDataSource, Bulkhead.LOOKUP, properties);
+    }
+
+    @Bean
+    public HikariDataSource searchDataSource(HikariDataSource writeDataSource, BulkheadProperties properties) {
+        return partition(writeDataSource, Bulkhead.SEARCH, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource writeDataSource,
+                                 HikariDataSource lookupDataSource,
+                                 HikariDataSource searchDataSource) {
+        int budget = writeDataSource.getMaximumPoolSize();
+        int writePoolSize = budget - lookupDataSource.getMaximumPoolSize() - searchDataSource.getMaximumPoolSize();
+        if (writePoolSize < MIN_WRITE_POOL_SIZE) {
+            throw new IllegalStateException("Lookup and search pools (" + lookupDataSource.getMaximumPoolSize()
+                    + " + " + searchDataSource.getMaximumPoolSize() + ") leave fewer than " + MIN_WRITE_POOL_SIZE
+                    + " of the " + budget + " connections in spring.datasource.hikari.maximum-pool-size for writes");
+        }
+        writeDataSource.setMaximumPoolSize(writePoolSize);
+        writeDataSource.setMinimumIdle(Math.min(writePoolSize, writeDataSource.getMinimumIdle()));
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Bulkhead.LOOKUP, lookupDataSource);
+        targets.put(Bulkhead.SEARCH, searchDataSource);
+
+        BulkheadRoutingDataSource routing = new BulkheadRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(writeDataSource);
+        return routing;
+    }
+
+    private static HikariDataSource partition(HikariDataSource template, Bulkhead bulkhead, BulkheadProperties properties) {
+        HikariDataSource pool = new HikariDataSource();
+        template.copyStateTo(pool);
+        int size = properties.settingsFor(bulkhead).getPoolSize();
+        pool.setMaximumPoolSize(size);
+        pool.setMinimumIdle(Math.min(size, template.getMinimumIdle()));
+        pool.setPoolName(template.getPoolName() + "-" + bulkhead.tag());
+        return pool;
+    }
+}
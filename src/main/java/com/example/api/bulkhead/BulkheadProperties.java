@@ -0,0 +1,47 @@
+package com.example.api.bulkhead;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-workload executors and connection pools (warrior.bulkhead.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * Run controller work on per-workload executors instead of the request thread
+     */
+    private boolean enabled = true;
+
+    /**
+     * Give LOOKUP and SEARCH their own Hikari pools; WRITE and everything else keep spring.datasource
+     */
+    private boolean separatePools = true;
+
+    private Map<Bulkhead, Settings> workloads = new EnumMap<>(Bulkhead.class);
+
+    public Settings settingsFor(Bulkhead bulkhead) {
+        return workloads.getOrDefault(bulkhead, new Settings());
+    }
+
+    @Data
+    public static class Settings {
+
+        private int threads = 32;
+
+        /**
+         * Tasks allowed to wait for a thread before requests are rejected with 503
+         */
+        private int queueCapacity = 256;
+
+        /**
+         * Size of the workload's own Hikari pool (LOOKUP and SEARCH only)
+         */
+        private int poolSize = 20;
+    }
+}
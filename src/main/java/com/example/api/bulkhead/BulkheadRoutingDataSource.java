@@ -0,0 +1,15 @@
+package com.example.api.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Hands each bulkhead thread a connection from its own pool; threads outside
+ * a bulkhead, or in one without a pool, use the default (write) pool
+ */
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Bulkheads.current();
+    }
+}
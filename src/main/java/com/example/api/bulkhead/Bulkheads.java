@@ -0,0 +1,230 @@
+package com.example.api.bulkhead;
+
+import com.example.api.config.ThreadingProperties;
+import com.example.api.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs controller work on a bounded executor per {@link Bulkhead}.
+ *
+ * A saturated workload fills its own queue and is rejected with 503 while
+ * the other workloads keep their threads, and - through
+ * {@link BulkheadRoutingDataSource} - their own connections. Executor
+ * threads carry their bulkhead for their whole life, which is what the
+ * routing data source keys on.
+ *
+ * With warrior.threads.mode=virtual there are no executors: work stays on the
+ * request's virtual thread and a fair semaphore per bulkhead enforces the same
+ * threads/queue-capacity bounds, so the bulkheads never put requests back on
+ * a fixed platform pool. {@link Bulkhead#inline() Inline} bulkheads work that
+ * way in both modes and are entered with {@link #enter}. The bulkhead is set on
+ * the thread for the duration of the call.
+ *
+ * Publishes executor.* metrics tagged bulkhead=... (platform mode), plus
+ * warrior.bulkhead.queue.depth and warrior.bulkhead.rejections.
+ * With warrior.bulkhead.enabled=false work runs inline on the request thread.
+ */
+@Component
+@Slf4j
+public class Bulkheads {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private final Map<Bulkhead, ThreadPoolExecutor> executors = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Gate> gates = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> rejections = new EnumMap<>(Bulkhead.class);
+
+    public Bulkheads(BulkheadProperties properties, ThreadingProperties threading, MeterRegistry meterRegistry) {
+        if (!properties.isEnabled()) {
+            log.info("Bulkheads disabled, controller work runs on request threads");
+            return;
+        }
+        boolean virtual = "virtual".equals(threading.getMode());
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            BulkheadProperties.Settings settings = properties.settingsFor(bulkhead);
+            Tags tags = Tags.of("bulkhead", bulkhead.tag());
+            boolean gated = virtual || bulkhead.inline();
+            if (gated) {
+                Gate gate = new Gate(settings.getThreads(), settings.getQueueCapacity());
+                gates.put(bulkhead, gate);
+                Gauge.builder("warrior.bulkhead.queue.depth", gate, Gate::waiting)
+                        .description("Requests waiting for a bulkhead slot")
+                        .tags(tags)
+                        .register(meterRegistry);
+            } else {
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                        settings.getThreads(), settings.getThreads(),
+                        60, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                        threadFactory(bulkhead),
+                        new ThreadPoolExecutor.AbortPolicy());
+                executors.put(bulkhead, executor);
+                new ExecutorServiceMetrics(executor, "warrior-bulkhead-" + bulkhead.tag(), tags).bindTo(meterRegistry);
+                Gauge.builder("warrior.bulkhead.queue.depth", executor, e -> e.getQueue().size())
+                        .description("Tasks waiting for a bulkhead thread")
+                        .tags(tags)
+                        .register(meterRegistry);
+            }
+            rejections.put(bulkhead, Counter.builder("warrior.bulkhead.rejections")
+                    .description("Requests rejected because the bulkhead queue was full")
+                    .tags(tags)
+                    .register(meterRegistry));
+            log.info("Bulkhead {}: {} {}, queue {}", bulkhead, settings.getThreads(),
+                    gated ? "concurrent callers" : "threads", settings.getQueueCapacity());
+        }
+    }
+
+    /**
+     * The bulkhead the calling thread belongs to, or null outside any bulkhead
+     */
+    public static Bulkhead current() {
+        return CURRENT.get();
+    }
+
+    public <T> CompletableFuture<T> submit(Bulkhead bulkhead, Supplier<T> work) {
+        if (gates.containsKey(bulkhead)) {
+            Admission admission = enter(bulkhead);
+            try (admission) {
+                return CompletableFuture.completedFuture(work.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        ThreadPoolExecutor executor = executors.get(bulkhead);
+        if (executor == null) {
+            try {
+                return CompletableFuture.completedFuture(work.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            throw rejected(bulkhead);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    /**
+     * Admits the calling thread to an inline bulkhead until the returned admission
+     * is closed; throws ServiceOverloadedException when the bulkhead is full. A
+     * no-op when bulkheads are disabled.
+     */
+    public Admission enter(Bulkhead bulkhead) {
+        Gate gate = gates.get(bulkhead);
+        if (gate == null) {
+            if (executors.containsKey(bulkhead)) {
+                throw new IllegalArgumentException("Bulkhead " + bulkhead + " runs on an executor, use submit");
+            }
+            return () -> {
+            };
+        }
+        if (!gate.enter()) {
+            throw rejected(bulkhead);
+        }
+        Bulkhead outer = CURRENT.get();
+        CURRENT.set(bulkhead);
+        return () -> {
+            CURRENT.set(outer);
+            gate.leave();
+        };
+    }
+
+    private ServiceOverloadedException rejected(Bulkhead bulkhead) {
+        rejections.get(bulkhead).increment();
+        return new ServiceOverloadedException("The " + bulkhead.tag() + " workload is saturated, retry shortly");
+    }
+
+    private static ThreadFactory threadFactory(Bulkhead bulkhead) {
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(() -> {
+                CURRENT.set(bulkhead);
+                task.run();
+            }, "bulkhead-" + bulkhead.tag() + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A thread's stay in a bulkhead; closing it leaves the bulkhead
+     */
+    @FunctionalInterface
+    public interface Admission extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * At most {@code slots} callers inside, at most {@code queueCapacity} parked
+     * waiting for a slot; anyone beyond that is turned away
+     */
+    private static final class Gate {
+
+        private final Semaphore slots;
+        private final int queueCapacity;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private Gate(int slots, int queueCapacity) {
+            this.slots = new Semaphore(slots, true);
+            this.queueCapacity = queueCapacity;
+        }
+
+        boolean enter() {
+            try {
+                // The timed form honours fairness; plain tryAcquire() would barge past parked waiters
+                if (slots.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+                if (waiting.incrementAndGet() > queueCapacity) {
+                    waiting.decrementAndGet();
+                    return false;
+                }
+                try {
+                    slots.acquire();
+                    return true;
+                } finally {
+                    waiting.decrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void leave() {
+            slots.release();
+        }
+
+        int waiting() {
+            return waiting.get();
+        }
+    }
+}
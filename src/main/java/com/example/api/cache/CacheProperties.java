@@ -0,0 +1,54 @@
+package com.example.api.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process read caches (warrior.cache.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.cache")
+public class CacheProperties {
+
+    private Lookup lookup = new Lookup();
+
+    private Search search = new Search();
+
+    @Data
+    public static class Lookup {
+
+        /**
+         * Serve GET /warrior/{id} from memory when the warrior is cached
+         */
+        private boolean enabled = true;
+
+        /**
+         * Upper bound on cached warriors, used when max-memory is not set
+         */
+        private long maxEntries = 100_000;
+
+        /**
+         * Approximate heap budget; when set it replaces max-entries as the bound
+         */
+        private DataSize maxMemory;
+    }
+
+    @Data
+    public static class Search {
+
+        /**
+         * Serve repeated GET /warrior?t= terms from memory
+         */
+        private boolean enabled = true;
+
+        /**
+         * Bounds how stale a result can get from warriors created on other replicas
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        private long maxEntries = 10_000;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Sharing of identical concurrent reads: {@link ReadCoalescing}, or {@link #NONE}
+ * when warrior.coalescing is disabled
+ */
+public interface Coalescing {
+
+    /**
+     * Every call runs on its own
+     */
+    Coalescing NONE = new Coalescing() {
+        @Override
+        public Optional<WarriorResponse> lookup(UUID id, Supplier<Optional<WarriorResponse>> call) {
+            return call.get();
+        }
+
+        @Override
+        public List<WarriorResponse> search(String key, Supplier<List<WarriorResponse>> call) {
+            return call.get();
+        }
+
+        @Override
+        public void onCreated(WarriorResponse created) {
+        }
+    };
+
+    /**
+     * GET /warrior/{id}, keyed by id
+     */
+    Optional<WarriorResponse> lookup(UUID id, Supplier<Optional<WarriorResponse>> call);
+
+    /**
+     * GET /warrior?t=, keyed by the search cache key of the term
+     */
+    List<WarriorResponse> search(String key, Supplier<List<WarriorResponse>> call);
+
+    /**
+     * Called once a created warrior is committed, so reads that started before
+     * it stop taking followers that must already see it
+     */
+    void onCreated(WarriorResponse created);
+}
@@ -0,0 +1,29 @@
+package com.example.api.cache;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Warrior JSON by id for GET /warrior/{id}: {@link WarriorLookupCache}, or
+ * {@link #NONE} when warrior.cache.lookup is disabled
+ */
+public interface LookupCache {
+
+    LookupCache NONE = new LookupCache() {
+        @Override
+        public Optional<byte[]> getJson(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(UUID id, byte[] json) {
+        }
+    };
+
+    /**
+     * The cached JSON of a warrior; callers must not modify the array
+     */
+    Optional<byte[]> getJson(UUID id);
+
+    void put(UUID id, byte[] json);
+}
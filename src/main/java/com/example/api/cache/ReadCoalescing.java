@@ -0,0 +1,44 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Request coalescing for the two read endpoints (warrior.coalescing.enabled)
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReadCoalescing implements Coalescing {
+
+    private final RequestCoalescer<UUID, Optional<WarriorResponse>> lookups;
+    private final RequestCoalescer<String, List<WarriorResponse>> searches;
+
+    public ReadCoalescing(MeterRegistry meterRegistry) {
+        this.lookups = new RequestCoalescer<>("lookup", meterRegistry);
+        this.searches = new RequestCoalescer<>("search", meterRegistry);
+    }
+
+    @Override
+    public Optional<WarriorResponse> lookup(UUID id, Supplier<Optional<WarriorResponse>> call) {
+        return lookups.execute(id, call);
+    }
+
+    @Override
+    public List<WarriorResponse> search(String key, Supplier<List<WarriorResponse>> call) {
+        return searches.execute(key, call);
+    }
+
+    @Override
+    public void onCreated(WarriorResponse created) {
+        lookups.forget(created.getId());
+        String[] texts = WarriorSearchCache.textsOf(created);
+        searches.forgetIf(key -> WarriorSearchCache.containsAny(texts, key));
+    }
+}
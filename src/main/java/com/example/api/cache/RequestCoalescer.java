@@ -0,0 +1,96 @@
+package com.example.api.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution: concurrent calls with the same key share one run.
+ *
+ * The first caller for a key (the leader) runs the call on its own thread;
+ * callers arriving while it is in flight (followers) wait for its result, or
+ * its exception, instead of running the call again. Nothing is kept once the
+ * call finishes, so this only collapses duplicates that overlap in time.
+ *
+ * A follower must not be handed a result read before a write it has already
+ * seen commit. Writers therefore call {@link #forget} once their change is
+ * visible: flights that may have started earlier stop accepting followers,
+ * and the next caller for the key leads a fresh run. Callers already waiting
+ * arrived before the write completed, so the older result is valid for them.
+ * Counted as warrior.coalescing.calls tagged with endpoint and role.
+ */
+public class RequestCoalescer<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public RequestCoalescer(String endpoint, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("warrior.coalescing.calls")
+                .description("Read calls that ran against the database")
+                .tag("endpoint", endpoint)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("warrior.coalescing.calls")
+                .description("Read calls answered by an identical call already in flight")
+                .tag("endpoint", endpoint)
+                .tag("role", "follower")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Stops an in-flight call for the key from taking new followers
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Stops every in-flight call whose key matches from taking new followers
+     */
+    public void forgetIf(Predicate<K> affected) {
+        inFlight.keySet().removeIf(affected);
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Followers see the leader's own exception, e.g. WarriorNotFoundException
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Search results by term key for GET /warrior?t=: {@link WarriorSearchCache}, or
+ * {@link #NONE} when warrior.cache.search is disabled
+ */
+public interface SearchResultCache {
+
+    SearchResultCache NONE = new SearchResultCache() {
+        @Override
+        public Optional<List<WarriorResponse>> get(String key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long stamp() {
+            return 0;
+        }
+
+        @Override
+        public void put(String key, long stamp, List<WarriorResponse> warriors, boolean truncated) {
+        }
+
+        @Override
+        public void onCreated(WarriorResponse warrior) {
+        }
+    };
+
+    Optional<List<WarriorResponse>> get(String key);
+
+    /**
+     * Taken before querying the database and handed back to put
+     */
+    long stamp();
+
+    /**
+     * Caches a result computed after stamp(); truncated means it hit the search limit
+     */
+    void put(String key, long stamp, List<WarriorResponse> warriors, boolean truncated);
+
+    /**
+     * Drops cached terms whose result the new warrior would appear in
+     */
+    void onCreated(WarriorResponse warrior);
+}
@@ -0,0 +1,54 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Encodes warriors to the exact UTF-8 JSON the HTTP layer would produce, using
+ * the application's ObjectMapper, so cached bytes can be written to clients as-is
+ */
+@Component
+public class WarriorJsonCodec {
+
+    private final ObjectWriter writer;
+
+    public WarriorJsonCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(WarriorResponse.class);
+    }
+
+    public byte[] encode(WarriorResponse warrior) {
+        try {
+            return writer.writeValueAsBytes(warrior);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize warrior " + warrior.getId(), e);
+        }
+    }
+
+    /**
+     * Joins encoded warriors into one JSON array by copying their bytes
+     */
+    public static byte[] array(List<byte[]> elements) {
+        int size = 2 + Math.max(0, elements.size() - 1);
+        for (byte[] element : elements) {
+            size += element.length;
+        }
+        byte[] json = new byte[size];
+        json[0] = '[';
+        int offset = 1;
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                json[offset++] = ',';
+            }
+            byte[] element = elements.get(i);
+            System.arraycopy(element, 0, json, offset, element.length);
+            offset += element.length;
+        }
+        json[offset] = ']';
+        return json;
+    }
+}
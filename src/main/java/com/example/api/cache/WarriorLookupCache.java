@@ -0,0 +1,61 @@
+package com.example.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of warriors by id in front of GET /warrior/{id}.
+ *
+ * Warriors never change after they are created, so entries are filled
+ * write-through on create and never need expiring or invalidating; the only
+ * way out is eviction. Entries are the warrior's final JSON bytes, encoded
+ * once, so a hit is written to the client without building or serializing
+ * any object - and costs one array on the heap instead of a small graph.
+ * Caffeine's W-TinyLFU admission keeps a flood of one-off lookups from
+ * pushing out warriors that are read repeatedly.
+ * Hit, miss and eviction counts are published as cache.* metrics with
+ * cache=warrior.lookup.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.cache.lookup", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class WarriorLookupCache implements LookupCache {
+
+    // Per-entry heap cost besides the JSON itself: the node, the UUID key and the array header
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final Cache<UUID, byte[]> cache;
+
+    public WarriorLookupCache(CacheProperties properties, MeterRegistry meterRegistry) {
+        CacheProperties.Lookup settings = properties.getLookup();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (settings.getMaxMemory() != null) {
+            builder.maximumWeight(settings.getMaxMemory().toBytes())
+                    .weigher((UUID id, byte[] json) -> ENTRY_OVERHEAD_BYTES + json.length);
+            log.info("Warrior lookup cache bounded to {}", settings.getMaxMemory());
+        } else {
+            builder.maximumSize(settings.getMaxEntries());
+            log.info("Warrior lookup cache bounded to {} entries", settings.getMaxEntries());
+        }
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "warrior.lookup");
+    }
+
+    @Override
+    public Optional<byte[]> getJson(UUID id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    @Override
+    public void put(UUID id, byte[] json) {
+        cache.put(id, json);
+    }
+}
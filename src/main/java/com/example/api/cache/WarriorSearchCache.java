@@ -0,0 +1,174 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Term to result cache in front of GET /warrior?t=, including empty results.
+ *
+ * Creating a warrior only invalidates the cached terms it could add to: the
+ * lower-cased substrings of its name and skills. Results that already hit the
+ * search limit are kept, since any full page of matches is a valid answer.
+ *
+ * A search that runs concurrently with a create may read the database before
+ * the warrior commits and try to cache a result without it. Every create is
+ * therefore numbered and remembered briefly; a result is only kept if no
+ * matching warrior was created between the start of its query and its put.
+ * Creates on other replicas are not seen at all, which is what the TTL bounds.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.cache.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarriorSearchCache implements SearchResultCache {
+
+    // Must be a power of two; searches overlapping more creates than this are not cached
+    private static final int RECENT_CREATES = 1024;
+
+    private final Cache<String, Entry> cache;
+    private final Map<String, Entry> entries;
+    private final AtomicLong createSequence = new AtomicLong();
+    private final AtomicReferenceArray<RecentCreate> recentCreates = new AtomicReferenceArray<>(RECENT_CREATES);
+    private final AtomicInteger longestKey = new AtomicInteger();
+    private final Counter invalidations;
+
+    public WarriorSearchCache(CacheProperties properties, MeterRegistry meterRegistry) {
+        CacheProperties.Search settings = properties.getSearch();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxEntries())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        this.entries = cache.asMap();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "warrior.search");
+        this.invalidations = Counter.builder("warrior.search.cache.invalidations")
+                .description("Cached search terms dropped because a new warrior matches them")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cache key for a trimmed search term; searches are case-insensitive
+     */
+    public static String keyOf(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Optional<List<WarriorResponse>> get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? Optional.of(entry.warriors()) : Optional.empty();
+    }
+
+    @Override
+    public long stamp() {
+        return createSequence.get();
+    }
+
+    @Override
+    public void put(String key, long stamp, List<WarriorResponse> warriors, boolean truncated) {
+        Entry entry = new Entry(List.copyOf(warriors), truncated);
+        longestKey.accumulateAndGet(key.length(), Math::max);
+        entries.put(key, entry);
+        if (truncated) {
+            return;
+        }
+
+        // Creates numbered after this read will find the entry themselves
+        long latest = createSequence.get();
+        if (latest - stamp > RECENT_CREATES) {
+            entries.remove(key, entry);
+            return;
+        }
+        for (long sequence = stamp + 1; sequence <= latest; sequence++) {
+            RecentCreate created = recentCreates.get(slotOf(sequence));
+            if (created == null || created.sequence() != sequence || created.matches(key)) {
+                entries.remove(key, entry);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onCreated(WarriorResponse warrior) {
+        String[] texts = textsOf(warrior);
+        long sequence = createSequence.incrementAndGet();
+        recentCreates.set(slotOf(sequence), new RecentCreate(sequence, texts));
+
+        int maxLength = longestKey.get();
+        long substrings = 0;
+        for (String text : texts) {
+            substrings += (long) text.length() * Math.min(maxLength, text.length());
+        }
+
+        if (substrings > cache.estimatedSize()) {
+            entries.forEach((key, entry) -> {
+                if (!entry.truncated() && containsAny(texts, key)) {
+                    invalidate(key, entry);
+                }
+            });
+        } else {
+            for (String text : texts) {
+                for (int from = 0; from < text.length(); from++) {
+                    int until = Math.min(text.length(), from + maxLength);
+                    for (int to = from + 1; to <= until; to++) {
+                        String key = text.substring(from, to);
+                        Entry entry = entries.get(key);
+                        if (entry != null && !entry.truncated()) {
+                            invalidate(key, entry);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void invalidate(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            invalidations.increment();
+        }
+    }
+
+    private static int slotOf(long sequence) {
+        return (int) (sequence & (RECENT_CREATES - 1));
+    }
+
+    static String[] textsOf(WarriorResponse warrior) {
+        List<String> skills = warrior.getFightSkills() != null ? warrior.getFightSkills() : List.of();
+        String[] texts = new String[skills.size() + 1];
+        texts[0] = keyOf(warrior.getName());
+        for (int i = 0; i < skills.size(); i++) {
+            texts[i + 1] = keyOf(skills.get(i));
+        }
+        return texts;
+    }
+
+    static boolean containsAny(String[] texts, String key) {
+        for (String text : texts) {
+            if (text.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Entry(List<WarriorResponse> warriors, boolean truncated) {
+    }
+
+    private record RecentCreate(long sequence, String[] texts) {
+        boolean matches(String key) {
+            return containsAny(texts, key);
+        }
+    }
+}
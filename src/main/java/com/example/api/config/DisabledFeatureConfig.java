@@ -0,0 +1,48 @@
+package com.example.api.config;
+
+import com.example.api.cache.Coalescing;
+import com.example.api.cache.LookupCache;
+import com.example.api.cache.SearchResultCache;
+import com.example.api.search.SearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * No-op stand-ins for the optional read-path components, each registered under
+ * the opposite condition of the real one, so callers always get exactly one
+ * implementation and never check whether a feature is on
+ */
+@Configuration
+public class DisabledFeatureConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warrior.search.index", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public SearchIndex noSearchIndex() {
+        return SearchIndex.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warrior.cache.lookup", name = "enabled", havingValue = "false")
+    public LookupCache noLookupCache() {
+        return LookupCache.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warrior.cache.search", name = "enabled", havingValue = "false")
+    public SearchResultCache noSearchResultCache() {
+        return SearchResultCache.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warrior.coalescing", name = "enabled", havingValue = "false")
+    public Coalescing noCoalescing() {
+        return Coalescing.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "warrior.threads.jdbc-governor", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public JdbcAdmission unlimitedJdbcAdmission() {
+        return JdbcAdmission.UNLIMITED;
+    }
+}
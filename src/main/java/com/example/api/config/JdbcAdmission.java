@@ -0,0 +1,27 @@
+package com.example.api.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Admission of request-thread database calls. {@link JdbcConcurrencyGovernor}
+ * when warrior.threads.jdbc-governor is enabled, otherwise {@link #UNLIMITED}
+ */
+public interface JdbcAdmission {
+
+    /**
+     * Runs every call straight away; the connection pool is the only bound
+     */
+    JdbcAdmission UNLIMITED = new JdbcAdmission() {
+        @Override
+        public <T> T call(Supplier<T> work) {
+            return work.get();
+        }
+    };
+
+    /**
+     * Runs the call once admitted
+     *
+     * @throws com.example.api.exception.ServiceOverloadedException when it is not admitted in time
+     */
+    <T> T call(Supplier<T> work);
+}
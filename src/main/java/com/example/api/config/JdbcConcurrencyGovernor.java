@@ -0,0 +1,68 @@
+package com.example.api.config;
+
+import com.example.api.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fair semaphore in front of database calls made on request threads.
+ *
+ * With virtual threads thousands of requests can be in flight at once; left
+ * alone they would all queue inside Hikari and fail together after its
+ * connection-timeout. Here they wait in FIFO order for one of a fixed number
+ * of permits, and give up with 503 after acquire-timeout. Semaphore parks
+ * virtual threads without pinning their carrier.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.threads.jdbc-governor", name = "enabled", havingValue = "true")
+public class JdbcConcurrencyGovernor implements JdbcAdmission {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejections;
+
+    public JdbcConcurrencyGovernor(ThreadingProperties properties, MeterRegistry meterRegistry) {
+        ThreadingProperties.JdbcGovernor settings = properties.getJdbcGovernor();
+        this.permits = new Semaphore(settings.getPermits(), true);
+        this.acquireTimeoutNanos = settings.getAcquireTimeout().toNanos();
+
+        Gauge.builder("warrior.jdbc.governor.waiting", permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a database permit")
+                .register(meterRegistry);
+        Gauge.builder("warrior.jdbc.governor.available", permits, Semaphore::availablePermits)
+                .description("Database permits currently free")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("warrior.jdbc.governor.rejections")
+                .description("Requests rejected after waiting acquire-timeout for a permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T call(Supplier<T> work) {
+        acquire();
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejections.increment();
+                throw new ServiceOverloadedException("Database is saturated, retry shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for the database");
+        }
+    }
+}
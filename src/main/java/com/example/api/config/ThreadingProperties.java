@@ -0,0 +1,40 @@
+package com.example.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Request threading model and JDBC admission (warrior.threads.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.threads")
+public class ThreadingProperties {
+
+    /**
+     * "platform" (Tomcat's bounded worker pool, default) or "virtual" (one virtual thread per request)
+     */
+    private String mode = "platform";
+
+    private JdbcGovernor jdbcGovernor = new JdbcGovernor();
+
+    @Data
+    public static class JdbcGovernor {
+
+        /**
+         * Gate request-thread database calls behind a fair semaphore; meant to be paired with mode=virtual
+         */
+        private boolean enabled = false;
+
+        /**
+         * Concurrent database calls allowed; keep at or below the Hikari pool size
+         */
+        private int permits = 120;
+
+        /**
+         * How long a request waits for a permit before it is rejected with 503
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Serves every request on its own virtual thread (warrior.threads.mode=virtual).
+ *
+ * Blocking on JDBC or on a group-commit future then parks a cheap virtual
+ * thread instead of holding one of Tomcat's 200 workers, so the request
+ * ceiling is set by max-connections rather than threads.max. The database
+ * is not protected by the thread count any more, which is what
+ * {@link JdbcConcurrencyGovernor} is for.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "warrior.threads", name = "mode", havingValue = "virtual")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadExecutorCustomizer() {
+        log.info("Serving requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
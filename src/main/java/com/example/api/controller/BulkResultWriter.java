@@ -0,0 +1,101 @@
+package com.example.api.controller;
+
+import com.example.api.ingest.BulkIngestListener;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes bulk ingest outcomes as NDJSON, one line per record, then a summary line:
+ * <pre>
+ * {"record":1,"id":"..."}
+ * {"record":2,"validationErrors":{"name":"Name is required"}}
+ * {"record":3,"error":"Warrior could not be stored"}
+ * {"accepted":1,"rejected":1,"failed":1,"complete":true}
+ * </pre>
+ * complete is false when reading stopped at malformed JSON; a missing summary
+ * means the ingest was cut short.
+ */
+final class BulkResultWriter implements BulkIngestListener {
+
+    private final JsonGenerator generator;
+    private int accepted;
+    private int rejected;
+    private int failed;
+
+    BulkResultWriter(JsonGenerator generator) {
+        // Records are separated by the newline endLine writes, not the default space
+        generator.setRootValueSeparator(null);
+        this.generator = generator;
+    }
+
+    @Override
+    public void accepted(int record, UUID id) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("record", record);
+            generator.writeStringField("id", id.toString());
+            endLine();
+            accepted++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void rejected(int record, Map<String, String> violations) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("record", record);
+            generator.writeObjectFieldStart("validationErrors");
+            for (Map.Entry<String, String> violation : violations.entrySet()) {
+                generator.writeStringField(violation.getKey(), violation.getValue());
+            }
+            generator.writeEndObject();
+            endLine();
+            rejected++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void failed(int record, String message) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("record", record);
+            generator.writeStringField("error", message);
+            endLine();
+            failed++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void batchCompleted() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void summary(boolean complete) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("accepted", accepted);
+        generator.writeNumberField("rejected", rejected);
+        generator.writeNumberField("failed", failed);
+        generator.writeBooleanField("complete", complete);
+        endLine();
+        generator.flush();
+    }
+
+    private void endLine() throws IOException {
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
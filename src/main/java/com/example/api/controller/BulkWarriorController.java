@@ -0,0 +1,55 @@
+package com.example.api.controller;
+
+import com.example.api.bulkhead.Bulkhead;
+import com.example.api.bulkhead.Bulkheads;
+import com.example.api.ingest.BulkWarriorImporter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * POST /warriors/bulk - Create many warriors from one NDJSON or JSON array body.
+ *
+ * The request body is read and the NDJSON results written on the request thread,
+ * batch by batch (see {@link BulkWarriorImporter}), so neither side is ever held in
+ * memory whole. Concurrent ingests are bounded by the inline BULK bulkhead, entered
+ * before anything is written so a full one still answers 503. The status is always
+ * 200 once reading starts; per-record outcomes are in the body (see {@link BulkResultWriter}).
+ */
+@RestController
+@RequiredArgsConstructor
+public class BulkWarriorController {
+
+    private final BulkWarriorImporter importer;
+    private final Bulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/warriors/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void bulkCreate(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        try (Bulkheads.Admission admission = bulkheads.enter(Bulkhead.BULK)) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+
+            JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(response.getOutputStream(), JsonEncoding.UTF8);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            try (generator) {
+                BulkResultWriter writer = new BulkResultWriter(generator);
+                boolean complete = importer.ingest(request.getInputStream(), writer);
+                writer.summary(complete);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.api.controller;
+
+import com.example.api.bulkhead.Bulkhead;
+import com.example.api.bulkhead.Bulkheads;
+import com.example.api.export.WarriorExporter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /warriors/export[?after=:id] - Every warrior as NDJSON, in id order.
+ *
+ * Rows go from the database cursor (see {@link WarriorExporter}) through one
+ * JsonGenerator to the response, gzip-compressed when the client accepts it, so
+ * an export of any size holds one fetch of rows and a few buffers. The body is
+ * written on the request thread: an export outlives any async request timeout,
+ * so it is admitted through the inline {@link Bulkhead#EXPORT} bulkhead.
+ *
+ * The last line is a trailer, {"count":n,"lastId":...}; a body without one was
+ * cut short, and the client resumes with after set to the last id it read.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final WarriorExporter exporter;
+    private final Bulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/warriors/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(@RequestParam(value = "after", required = false) UUID after,
+                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                       HttpServletResponse response) throws IOException {
+        try (Bulkheads.Admission admission = bulkheads.enter(Bulkhead.EXPORT)) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+            OutputStream out = response.getOutputStream();
+            if (acceptsGzip(acceptEncoding)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                out = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            }
+
+            // No trailer unless every row was written; the generator stays open on failure
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            WarriorNdjsonWriter writer = new WarriorNdjsonWriter(generator);
+            exporter.export(after, writer);
+            writer.finish();
+        }
+    }
+
+    /**
+     * Whether an Accept-Encoding header allows gzip: listed (or covered by *)
+     * with a non-zero q-value
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                any = quality;
+            }
+        }
+        Double quality = gzip != null ? gzip : any;
+        return quality != null && quality > 0;
+    }
+
+    private static double qualityOf(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.api.controller;
+
+import com.example.api.bulkhead.Bulkhead;
+import com.example.api.bulkhead.Bulkheads;
+import com.example.api.service.WarriorService;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Cursor-to-JSON variant of GET /warrior?t= (warrior.search.response.mode=streaming).
+ *
+ * Mapped with params = "t", so it takes precedence over
+ * {@link WarriorController#searchWarriors} whenever a term is given; requests
+ * without one still reach the buffered handler and its 400. Rows go from the
+ * JDBC cursor through one JsonGenerator into a byte buffer, with no
+ * WarriorResponse list in between. The buffer is only handed to the response
+ * once the query has finished, so the JDBC permit and connection are never
+ * held while writing to a slow client, and a failed query still becomes an
+ * error status instead of a committed, truncated 200.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "warrior.search.response", name = "mode", havingValue = "streaming")
+@RequiredArgsConstructor
+public class StreamingSearchController {
+
+    // 50 warriors with a few skills each
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final WarriorService warriorService;
+    private final Bulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/warrior", params = "t")
+    public CompletableFuture<ResponseEntity<byte[]>> searchWarriors(@RequestParam("t") String term) {
+        // Reject a blank term here, before it takes a bulkhead slot
+        String normalizedTerm = warriorService.normalizeSearchTerm(term);
+
+        return bulkheads.submit(Bulkhead.SEARCH, () -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(searchJson(normalizedTerm)));
+    }
+
+    private byte[] searchJson(String normalizedTerm) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try {
+            WarriorJsonWriter writer = new WarriorJsonWriter(
+                    objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8));
+            warriorService.streamSearch(normalizedTerm, writer);
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.api.controller;
 
+import com.example.api.bulkhead.Bulkhead;
+import com.example.api.bulkhead.Bulkheads;
 import com.example.api.dto.CountResponse;
 import com.example.api.dto.CreateWarriorRequest;
 import com.example.api.dto.WarriorResponse;
 import com.example.api.service.WarriorService;
-import jakarta.validation.Valid;
+import com.example.shared.validation.InvalidWarriorPayloadException;
+import com.example.shared.validation.WarriorPayloadValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping
@@ -21,49 +25,65 @@ import java.util.UUID;
 public class WarriorController {
     
     private final WarriorService warriorService;
+    private final Bulkheads bulkheads;
     
     /**
      * POST /warrior - Create a new warrior
      */
     @PostMapping("/warrior")
-    public ResponseEntity<WarriorResponse> createWarrior(
-            @Valid @RequestBody CreateWarriorRequest request) {
-        
-        WarriorResponse response = warriorService.createWarrior(request);
-        String location = String.format("/warrior/%s", response.getId());
-        
-        return ResponseEntity
-            .status(HttpStatus.CREATED)
-            .header("Location", location)
-            .body(response);
+    public CompletableFuture<ResponseEntity<WarriorResponse>> createWarrior(
+            @RequestBody CreateWarriorRequest request) {
+
+        // Validated on the request thread, so a bad payload never takes a bulkhead slot
+        InvalidWarriorPayloadException.throwIfInvalid(WarriorPayloadValidator.validate(
+                request.getName(), request.getDob(), request.getFightSkills()));
+
+        return bulkheads.submit(Bulkhead.WRITE, () -> {
+            WarriorResponse response = warriorService.createWarrior(request);
+            String location = String.format("/warrior/%s", response.getId());
+            
+            return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .header("Location", location)
+                .body(response);
+        });
     }
     
     /**
      * GET /warrior/:id - Get warrior by ID
      */
     @GetMapping("/warrior/{id}")
-    public ResponseEntity<WarriorResponse> getWarriorById(@PathVariable UUID id) {
-        WarriorResponse response = warriorService.getWarriorById(id);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<byte[]>> getWarriorById(@PathVariable UUID id) {
+        return bulkheads.submit(Bulkhead.LOOKUP,
+                () -> json(warriorService.getWarriorJsonById(id)));
     }
     
     /**
      * GET /warrior?t=[:term] - Search warriors by name or skills
      */
     @GetMapping("/warrior")
-    public ResponseEntity<List<WarriorResponse>> searchWarriors(
+    public CompletableFuture<ResponseEntity<byte[]>> searchWarriors(
             @RequestParam(value = "t", required = false) String term) {
         
-        List<WarriorResponse> warriors = warriorService.searchWarriors(term);
-        return ResponseEntity.ok(warriors);
+        return bulkheads.submit(Bulkhead.SEARCH,
+                () -> json(warriorService.searchWarriorsJson(term)));
     }
     
     /**
      * GET /counting-warriors - Get total warrior count
      */
     @GetMapping("/counting-warriors")
-    public ResponseEntity<CountResponse> getWarriorCount() {
-        CountResponse response = warriorService.getWarriorCount();
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<CountResponse>> getWarriorCount() {
+        return bulkheads.submit(Bulkhead.LOOKUP,
+                () -> ResponseEntity.ok(warriorService.getWarriorCount()));
+    }
+
+    /**
+     * Pre-encoded JSON is written as-is by the byte array converter
+     */
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
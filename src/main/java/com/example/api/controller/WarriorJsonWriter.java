@@ -0,0 +1,68 @@
+package com.example.api.controller;
+
+import com.example.api.repository.WarriorSink;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Writes warriors as a JSON array, field for field what Jackson produces for a
+ * List of WarriorResponse, straight to a generator. The array is only closed by
+ * {@link #finish}; a writer abandoned after a failure leaves it open, so partial
+ * output can never pass for a complete result.
+ */
+final class WarriorJsonWriter implements WarriorSink {
+
+    private final JsonGenerator generator;
+    private boolean inWarrior;
+
+    WarriorJsonWriter(JsonGenerator generator) throws IOException {
+        this.generator = generator;
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void warrior(UUID id, String name, LocalDate dob) {
+        try {
+            endWarrior();
+            generator.writeStartObject();
+            generator.writeStringField("id", id.toString());
+            generator.writeStringField("name", name);
+            generator.writeStringField("dob", dob.toString());
+            generator.writeArrayFieldStart("fightSkills");
+            inWarrior = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void fightSkill(String skill) {
+        try {
+            generator.writeString(skill);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Closes the array once every warrior has been written
+     */
+    void finish() throws IOException {
+        endWarrior();
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    private void endWarrior() throws IOException {
+        if (!inWarrior) {
+            return;
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        inWarrior = false;
+    }
+}
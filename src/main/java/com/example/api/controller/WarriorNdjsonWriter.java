@@ -0,0 +1,81 @@
+package com.example.api.controller;
+
+import com.example.api.repository.WarriorSink;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Writes warriors as newline-delimited JSON, one WarriorResponse object per line,
+ * straight to a generator. {@link #finish} ends the stream with a trailer line
+ * holding the count and the last id; an export without one was cut short.
+ */
+final class WarriorNdjsonWriter implements WarriorSink {
+
+    private final JsonGenerator generator;
+    private boolean inWarrior;
+    private long count;
+    private UUID lastId;
+
+    WarriorNdjsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+        // Lines are separated by the newline endWarrior writes, not the default space
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void warrior(UUID id, String name, LocalDate dob) {
+        try {
+            endWarrior();
+            count++;
+            lastId = id;
+            generator.writeStartObject();
+            generator.writeStringField("id", id.toString());
+            generator.writeStringField("name", name);
+            generator.writeStringField("dob", dob.toString());
+            generator.writeArrayFieldStart("fightSkills");
+            inWarrior = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void fightSkill(String skill) {
+        try {
+            generator.writeString(skill);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the trailer once every warrior has been written
+     */
+    void finish() throws IOException {
+        endWarrior();
+        generator.writeStartObject();
+        generator.writeNumberField("count", count);
+        if (lastId != null) {
+            generator.writeStringField("lastId", lastId.toString());
+        } else {
+            generator.writeNullField("lastId");
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.close();
+    }
+
+    private void endWarrior() throws IOException {
+        if (!inWarrior) {
+            return;
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        inWarrior = false;
+    }
+}
@@ -1,10 +1,6 @@
 package com.example.api.dto;
 
-import com.example.api.validation.FightSkillsConstraint;
 import com.fasterxml.jackson.annotation.JsonFormat;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,21 +9,20 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * Create payload; checked by {@link com.example.shared.validation.WarriorPayloadValidator}
+ * rather than bean validation annotations
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class CreateWarriorRequest {
     
-    @NotBlank(message = "Name is required")
-    @Size(min = 1, max = 100, message = "Name must be between 1 and 100 characters")
     private String name;
     
-    @NotNull(message = "Date of birth is required")
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate dob;
     
-    @NotNull(message = "Fight skills are required")
-    @FightSkillsConstraint
     private List<String> fightSkills;
 }
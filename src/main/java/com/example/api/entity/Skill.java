@@ -0,0 +1,26 @@
+package com.example.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dictionary entry for a fight skill; warriors reference skills by id
+ */
+@Entity
+@Table(name = "skills")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
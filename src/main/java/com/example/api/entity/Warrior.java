@@ -23,8 +23,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Warrior {
     
+    // Time-ordered so inserts append to the primary key index instead of scattering
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     
     @Column(nullable = false, length = 100)
@@ -33,10 +34,12 @@ public class Warrior {
     @Column(nullable = false)
     private LocalDate dob;
     
+    // Ids into the skills dictionary, in the order they were submitted
     @ElementCollection
-    @CollectionTable(name = "warrior_fight_skills", joinColumns = @JoinColumn(name = "warrior_id"))
-    @Column(name = "skill")
-    private List<String> fightSkills;
+    @CollectionTable(name = "warrior_skills", joinColumns = @JoinColumn(name = "warrior_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "skill_id", nullable = false)
+    private List<Integer> fightSkillIds;
     
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
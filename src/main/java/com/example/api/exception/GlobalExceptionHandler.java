@@ -1,8 +1,11 @@
 package com.example.api.exception;
 
+import com.example.shared.validation.InvalidWarriorPayloadException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -13,10 +16,13 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
+
+    private final LogThrottle malformedPayloadLogs = new LogThrottle(10, TimeUnit.SECONDS);
     
     @ExceptionHandler(WarriorNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleWarriorNotFound(
@@ -35,39 +41,49 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(InvalidSearchTermException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidSearchTerm(
-            InvalidSearchTermException ex,
+    public ResponseEntity<byte[]> handleInvalidSearchTerm(HttpServletRequest request) {
+        return staticError(StaticErrorBody.MISSING_SEARCH_TERM, request);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(
+            ServiceOverloadedException ex,
             HttpServletRequest request) {
 
         ErrorResponse error = ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
                 .message(ex.getMessage())
                 .path(request.getRequestURI())
                 .build();
 
-        return ResponseEntity.badRequest().body(error);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ErrorResponse> handleMalformedJson(
+    public ResponseEntity<byte[]> handleMalformedJson(
             HttpMessageNotReadableException ex,
             HttpServletRequest request) {
 
-        log.warn("Malformed request payload on {}: {}", request.getRequestURI(), ex.getMostSpecificCause().getMessage());
-
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message("Malformed JSON request")
-                .path(request.getRequestURI())
-                .build();
-
-        return ResponseEntity.badRequest().body(error);
+        long suppressed = malformedPayloadLogs.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("Malformed request payload on {} ({} similar since last report): {}",
+                    request.getRequestURI(), suppressed, ex.getMostSpecificCause().getMessage());
+        }
+        return staticError(StaticErrorBody.MALFORMED_JSON, request);
     }
     
+    @ExceptionHandler(InvalidWarriorPayloadException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPayload(
+            InvalidWarriorPayloadException ex,
+            HttpServletRequest request) {
+
+        return validationFailed(ex.getViolations(), request);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationErrors(
             MethodArgumentNotValidException ex,
@@ -79,19 +95,10 @@ public class GlobalExceptionHandler {
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
-        
-        ErrorResponse error = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message("Validation failed")
-                .path(request.getRequestURI())
-                .validationErrors(errors)
-                .build();
-        
-        return ResponseEntity.badRequest().body(error);
+
+        return validationFailed(errors, request);
     }
-    
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericError(
             Exception ex,
@@ -109,4 +116,26 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
+
+    private static ResponseEntity<ErrorResponse> validationFailed(
+            Map<String, String> errors,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message("Validation failed")
+                .path(request.getRequestURI())
+                .validationErrors(errors)
+                .build();
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    private static ResponseEntity<byte[]> staticError(StaticErrorBody body, HttpServletRequest request) {
+        return ResponseEntity.status(body.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.render(request.getRequestURI()));
+    }
 }
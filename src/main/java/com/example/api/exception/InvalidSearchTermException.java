@@ -1,8 +1,14 @@
 package com.example.api.exception;
 
+/**
+ * GET /warrior without a usable t. Stackless: it is routine client error
+ * traffic, and the trace would never be read.
+ */
 public class InvalidSearchTermException extends RuntimeException {
 
-    public InvalidSearchTermException(String message) {
-        super(message);
+    public static final String MESSAGE = "Query parameter 't' is required";
+
+    public InvalidSearchTermException() {
+        super(MESSAGE, null, false, false);
     }
 }
@@ -0,0 +1,33 @@
+package com.example.api.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets one log line through per interval and counts the ones it held back,
+ * so a flood of identical client errors cannot flood the log as well
+ */
+public final class LogThrottle {
+
+    private final long intervalNanos;
+    private final AtomicLong nextAllowed = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public LogThrottle(long interval, TimeUnit unit) {
+        this.intervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * Returns -1 when this line should be dropped, otherwise the number of
+     * lines dropped since the last one allowed
+     */
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long next = nextAllowed.get();
+        if ((next != Long.MIN_VALUE && now - next < 0) || !nextAllowed.compareAndSet(next, now + intervalNanos)) {
+            suppressed.incrementAndGet();
+            return -1;
+        }
+        return suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.api.exception;
+
+/**
+ * Thrown when the service refuses work instead of queueing it indefinitely.
+ * Mapped to 503 with a Retry-After hint. Stackless, since it is thrown at
+ * the highest rates exactly when the service can least afford the trace.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message, null, false, false);
+    }
+}
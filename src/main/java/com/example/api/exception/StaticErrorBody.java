@@ -0,0 +1,97 @@
+package com.example.api.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * An {@link ErrorResponse} whose status, error and message never change,
+ * encoded once. Per request only the path and a timestamp cached per second
+ * are spliced in, so writing one costs no ErrorResponse, no Jackson call and
+ * no date formatting. The JSON has the same fields, in the same order, as
+ * the Jackson-encoded ErrorResponse (timestamps are to the second).
+ */
+public final class StaticErrorBody {
+
+    public static final StaticErrorBody MISSING_SEARCH_TERM =
+            new StaticErrorBody(HttpStatus.BAD_REQUEST, InvalidSearchTermException.MESSAGE);
+    public static final StaticErrorBody MALFORMED_JSON =
+            new StaticErrorBody(HttpStatus.BAD_REQUEST, "Malformed JSON request");
+    public static final StaticErrorBody TOO_MANY_CONCURRENT_REQUESTS =
+            new StaticErrorBody(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent requests, retry shortly");
+
+    private static final byte[] OPEN = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLOSE = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static volatile Timestamp timestamp = new Timestamp(Long.MIN_VALUE, new byte[0]);
+
+    private final HttpStatus status;
+    private final byte[] fields;
+
+    private StaticErrorBody(HttpStatus status, String message) {
+        this.status = status;
+        this.fields = ("\",\"status\":" + status.value()
+                + ",\"error\":\"" + quote(status.getReasonPhrase())
+                + "\",\"message\":\"" + quote(message)
+                + "\",\"path\":\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+
+    public byte[] render(String path) {
+        byte[] time = currentTimestamp();
+        byte[] quotedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        byte[] body = new byte[OPEN.length + time.length + fields.length + quotedPath.length + CLOSE.length];
+        int offset = append(body, 0, OPEN);
+        offset = append(body, offset, time);
+        offset = append(body, offset, fields);
+        offset = append(body, offset, quotedPath);
+        append(body, offset, CLOSE);
+        return body;
+    }
+
+    /**
+     * Writes the complete response, for callers outside Spring MVC such as filters
+     */
+    public void write(HttpServletResponse response, String path) throws IOException {
+        byte[] body = render(path);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] currentTimestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        Timestamp current = timestamp;
+        if (current.second() != second) {
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault());
+            current = new Timestamp(second,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now).getBytes(StandardCharsets.US_ASCII));
+            timestamp = current;
+        }
+        return current.text();
+    }
+
+    private static int append(byte[] target, int offset, byte[] part) {
+        System.arraycopy(part, 0, target, offset, part.length);
+        return offset + part.length;
+    }
+
+    private static String quote(String text) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(text));
+    }
+
+    private record Timestamp(long second, byte[] text) {
+    }
+}
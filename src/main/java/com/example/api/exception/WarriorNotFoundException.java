@@ -2,9 +2,12 @@ package com.example.api.exception;
 
 import java.util.UUID;
 
+/**
+ * Stackless: a lookup miss is an expected outcome, not a fault
+ */
 public class WarriorNotFoundException extends RuntimeException {
     
     public WarriorNotFoundException(UUID id) {
-        super("Warrior not found with id: " + id);
+        super("Warrior not found with id: " + id, null, false, false);
     }
 }
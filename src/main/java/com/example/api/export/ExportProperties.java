@@ -0,0 +1,17 @@
+package com.example.api.export;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for GET /warriors/export (warrior.export.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.export")
+public class ExportProperties {
+
+    /**
+     * Rows the Postgres cursor hands over per round trip; bounds the memory one export holds
+     */
+    private int fetchSize = 1_000;
+}
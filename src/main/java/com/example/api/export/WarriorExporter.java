@@ -0,0 +1,93 @@
+package com.example.api.export;
+
+import com.example.api.config.JdbcAdmission;
+import com.example.api.repository.WarriorSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Streams the whole warriors table, in id order, over a server-side cursor.
+ *
+ * The PostgreSQL driver only fetches fetch-size rows at a time when the statement
+ * runs inside a transaction with a fetch size set; otherwise it reads the entire
+ * result into memory first. Hence the dedicated JdbcTemplate and the read-only
+ * transaction around the query. Skills are folded into one array per warrior
+ * in SQL, so each warrior is exactly one row.
+ *
+ * An export interrupted after id X resumes with the warriors whose id sorts after
+ * X. That is exact for the warriors that existed when the first export started.
+ * Ids are not creation order: rows from before UUIDv7 ids have random v4 ids, so
+ * a warrior created since then (UUIDv7) can sort before X and be left out. The
+ * export holds one JDBC admission permit for as long as it holds its connection.
+ */
+@Component
+public class WarriorExporter {
+
+    private static final String EXPORT_ROWS =
+            "SELECT w.id, w.name, w.dob, " +
+            "(SELECT array_agg(k.name ORDER BY ws.position) FROM warrior_skills ws " +
+            "JOIN skills k ON k.id = ws.skill_id WHERE ws.warrior_id = w.id) AS fight_skills " +
+            "FROM warriors w ";
+
+    private static final String ID_ORDER = "ORDER BY w.id";
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JdbcAdmission jdbcAdmission;
+    private final Counter exported;
+
+    public WarriorExporter(DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           JdbcAdmission jdbcAdmission,
+                           ExportProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(properties.getFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.jdbcAdmission = jdbcAdmission;
+        this.exported = Counter.builder("warrior.export.rows")
+                .description("Warriors written by GET /warriors/export")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hands every warrior with an id greater than after (all of them when null) to
+     * the sink, in id order
+     */
+    public void export(UUID after, WarriorSink sink) {
+        RowCallbackHandler rows = rs -> write(rs, sink);
+        jdbcAdmission.call(() -> readOnlyTransaction.execute(status -> {
+            if (after == null) {
+                cursorTemplate.query(EXPORT_ROWS + ID_ORDER, rows);
+            } else {
+                cursorTemplate.query(EXPORT_ROWS + "WHERE w.id > ? " + ID_ORDER, rows, after);
+            }
+            return null;
+        }));
+    }
+
+    private void write(ResultSet rs, WarriorSink sink) throws SQLException {
+        sink.warrior(rs.getObject("id", UUID.class), rs.getString("name"), rs.getObject("dob", LocalDate.class));
+        Array skills = rs.getArray("fight_skills");
+        if (skills != null) {
+            for (Object skill : (Object[]) skills.getArray()) {
+                sink.fightSkill((String) skill);
+            }
+            skills.free();
+        }
+        exported.increment();
+    }
+}
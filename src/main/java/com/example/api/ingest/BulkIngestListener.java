@@ -0,0 +1,32 @@
+package com.example.api.ingest;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Receives the outcome of each record of a bulk ingest, in input order.
+ * Records are numbered from 1 in the order they appear in the body.
+ */
+public interface BulkIngestListener {
+
+    /**
+     * The record is committed under the given id
+     */
+    void accepted(int record, UUID id);
+
+    /**
+     * The record was not stored because it is invalid; violations as field -> message
+     */
+    void rejected(int record, Map<String, String> violations);
+
+    /**
+     * The record was valid but the database refused it
+     */
+    void failed(int record, String message);
+
+    /**
+     * A batch of outcomes has been reported; a good moment to flush
+     */
+    default void batchCompleted() {
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.api.ingest;
+
+import com.example.api.config.JdbcAdmission;
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.service.WarriorService;
+import com.example.shared.ids.UuidV7;
+import com.example.shared.validation.WarriorPayloadValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Streaming ingest behind POST /warriors/bulk.
+ *
+ * The body is either newline-delimited JSON or one JSON array of create payloads;
+ * Jackson's MappingIterator reads one record at a time in both cases, so memory
+ * is bounded by the batch, not by the body. Each record is validated as it is
+ * read, valid ones are inserted batch-size at a time in one transaction through
+ * {@link WarriorBatchInserter}, and outcomes are reported in input order once
+ * their batch is settled - an accepted record is always committed.
+ *
+ * Bulk writes go straight to Postgres whatever warrior.ingest.mode is: batching
+ * is what the other modes approximate, and the caller already provides it. Each
+ * batch takes one JDBC admission permit, so bulk ingest queues behind the same
+ * governor as single requests; a rejection ends the ingest like a lost database.
+ */
+@Component
+@Slf4j
+public class BulkWarriorImporter {
+
+    private static final String MALFORMED_RECORD = "Malformed JSON";
+    private static final String NOT_AN_OBJECT = "Record must be a warrior object";
+    private static final String INVALID_VALUE = "Invalid value";
+    private static final String NOT_STORED = "Warrior could not be stored";
+
+    private final WarriorBatchInserter batchInserter;
+    private final WarriorService warriorService;
+    private final JdbcAdmission jdbcAdmission;
+    private final ObjectReader reader;
+    private final int batchSize;
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public BulkWarriorImporter(WarriorBatchInserter batchInserter,
+                               WarriorService warriorService,
+                               JdbcAdmission jdbcAdmission,
+                               ObjectMapper objectMapper,
+                               IngestProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.batchInserter = batchInserter;
+        this.warriorService = warriorService;
+        this.jdbcAdmission = jdbcAdmission;
+        this.reader = objectMapper.readerFor(CreateWarriorRequest.class);
+        this.batchSize = properties.getBulk().getBatchSize();
+        this.accepted = records(meterRegistry, "accepted");
+        this.rejected = records(meterRegistry, "rejected");
+        this.failed = records(meterRegistry, "failed");
+    }
+
+    private static Counter records(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("warrior.bulk.records")
+                .description("Bulk ingest records by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads, validates and stores every record of the body, reporting each one to the listener.
+     * Returns whether the whole body was read; false when it stopped at a syntax error.
+     *
+     * @throws IOException when the body cannot be read; results not yet reported were not stored
+     */
+    public boolean ingest(InputStream body, BulkIngestListener listener) throws IOException {
+        Batch batch = new Batch(listener);
+        int record = 1;
+
+        try (MappingIterator<CreateWarriorRequest> records = reader.readValues(body)) {
+            for (; records.hasNextValue(); record++) {
+                CreateWarriorRequest request;
+                try {
+                    request = records.nextValue();
+                } catch (JsonMappingException e) {
+                    // A well-formed record of the wrong shape: the iterator skips past it
+                    batch.reject(record, Map.of(fieldOf(e), INVALID_VALUE));
+                    continue;
+                }
+                if (request == null) {
+                    batch.reject(record, Map.of("payload", NOT_AN_OBJECT));
+                    continue;
+                }
+
+                Map<String, String> violations = WarriorPayloadValidator.validate(
+                        request.getName(), request.getDob(), request.getFightSkills());
+                if (violations.isEmpty()) {
+                    batch.accept(record, new NewWarrior(
+                            UuidV7.generate(), request.getName(), request.getDob(), request.getFightSkills()));
+                } else {
+                    batch.reject(record, violations);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Broken syntax: there is no telling where the next record starts, so stop here
+            batch.reject(record, Map.of("payload", MALFORMED_RECORD));
+            batch.settle();
+            return false;
+        }
+
+        batch.settle();
+        return true;
+    }
+
+    private static String fieldOf(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        if (path.isEmpty() || path.get(0).getFieldName() == null) {
+            return "payload";
+        }
+        return path.get(0).getFieldName();
+    }
+
+    /**
+     * Outcomes held back until the warriors among them are committed, so they are
+     * reported in input order; settled once it holds batch-size records
+     */
+    private final class Batch {
+        private final BulkIngestListener listener;
+        private final List<Outcome> outcomes = new ArrayList<>(batchSize);
+        private final List<NewWarrior> warriors = new ArrayList<>(batchSize);
+
+        Batch(BulkIngestListener listener) {
+            this.listener = listener;
+        }
+
+        void accept(int record, NewWarrior warrior) {
+            outcomes.add(new Outcome(record, warrior, null));
+            warriors.add(warrior);
+            settleIfFull();
+        }
+
+        void reject(int record, Map<String, String> violations) {
+            outcomes.add(new Outcome(record, null, violations));
+            settleIfFull();
+        }
+
+        private void settleIfFull() {
+            if (outcomes.size() >= batchSize) {
+                settle();
+            }
+        }
+
+        void settle() {
+            if (outcomes.isEmpty()) {
+                return;
+            }
+            Set<UUID> refused = warriors.isEmpty() ? Set.of() : jdbcAdmission.call(() -> store(warriors));
+
+            for (Outcome outcome : outcomes) {
+                if (outcome.violations() != null) {
+                    listener.rejected(outcome.record(), outcome.violations());
+                    rejected.increment();
+                } else if (refused.contains(outcome.warrior().id())) {
+                    listener.failed(outcome.record(), NOT_STORED);
+                    failed.increment();
+                } else {
+                    warriorService.afterCreate(outcome.warrior().toResponse());
+                    listener.accepted(outcome.record(), outcome.warrior().id());
+                    accepted.increment();
+                }
+            }
+            listener.batchCompleted();
+            outcomes.clear();
+            warriors.clear();
+        }
+
+        /**
+         * Inserts the warriors in one transaction; if the database refuses the batch,
+         * retries them one by one so a single bad row only costs itself. Returns the
+         * ids of the warriors that could not be stored
+         */
+        private Set<UUID> store(List<NewWarrior> batch) {
+            try {
+                batchInserter.insertAll(batch);
+                return Set.of();
+            } catch (DataIntegrityViolationException e) {
+                if (batch.size() == 1) {
+                    log.warn("Bulk warrior {} rejected by the database: {}", batch.get(0).id(), e.getMessage());
+                    return Set.of(batch.get(0).id());
+                }
+                Set<UUID> refused = new HashSet<>();
+                for (NewWarrior warrior : batch) {
+                    refused.addAll(store(List.of(warrior)));
+                }
+                return refused;
+            }
+        }
+    }
+
+    private record Outcome(int record, NewWarrior warrior, Map<String, String> violations) {
+    }
+}
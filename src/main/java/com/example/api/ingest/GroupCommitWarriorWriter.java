@@ -0,0 +1,264 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+import com.example.api.exception.ServiceOverloadedException;
+import com.example.shared.ids.UuidV7;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Group-commit ingest stage (warrior.ingest.mode=group-commit).
+ *
+ * Request threads enqueue their warrior and block until a writer thread has
+ * committed the batch containing it. Writers drain up to batch-size requests,
+ * waiting at most max-linger for stragglers, and write them all in one
+ * transaction - so N concurrent creates cost one connection checkout and one
+ * commit instead of N.
+ *
+ * A warrior still queued when its response-timeout expires is answered with 503
+ * and dropped, never committed; one a writer already took may still commit, and
+ * the 503 names its id so the client can check before retrying.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.ingest", name = "mode", havingValue = "group-commit", matchIfMissing = true)
+@Slf4j
+public class GroupCommitWarriorWriter implements WarriorWriter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final WarriorBatchInserter batchInserter;
+    private final IngestProperties.GroupCommit settings;
+    private final BlockingQueue<PendingWarrior> queue;
+    private final List<Thread> writers = new ArrayList<>();
+    private final DistributionSummary batchSize;
+    private final Timer commitLatency;
+
+    private volatile boolean running;
+
+    public GroupCommitWarriorWriter(WarriorBatchInserter batchInserter,
+                                    IngestProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.batchInserter = batchInserter;
+        this.settings = properties.getGroupCommit();
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+
+        this.batchSize = DistributionSummary.builder("warrior.ingest.batch.size")
+                .description("Warriors written per group-commit transaction")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("warrior.ingest.commit.latency")
+                .description("Time to insert and commit one group-commit batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("warrior.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Creates waiting for a writer thread")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < settings.getWriterThreads(); i++) {
+            Thread writer = new Thread(this::drainLoop, "warrior-writer-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+        log.info("Group commit started: {} writers, batch size {}, linger {}, queue {}",
+                settings.getWriterThreads(), settings.getBatchSize(),
+                settings.getMaxLinger(), settings.getQueueCapacity());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread writer : writers) {
+            writer.join(settings.getResponseTimeout().toMillis());
+        }
+    }
+
+    /**
+     * Request threads only wait on a future; writer threads own the connections
+     */
+    @Override
+    public boolean usesCallerConnection() {
+        return false;
+    }
+
+    @Override
+    public WarriorResponse write(CreateWarriorRequest request) {
+        NewWarrior warrior = new NewWarrior(
+                UuidV7.generate(), request.getName(), request.getDob(), request.getFightSkills());
+        PendingWarrior pending = new PendingWarrior(warrior);
+
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceOverloadedException("Warrior ingest queue is full, retry later");
+        }
+
+        try {
+            pending.committed().get(settings.getResponseTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw abandon(pending, "Timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw abandon(pending, "Interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return warrior.toResponse();
+    }
+
+    /**
+     * The caller stops waiting: a warrior no writer has claimed is dropped, any
+     * other may still be committed
+     */
+    private static ServiceOverloadedException abandon(PendingWarrior pending, String reason) {
+        UUID id = pending.warrior().id();
+        if (pending.expire()) {
+            return new ServiceOverloadedException(
+                    reason + " waiting for a writer, warrior " + id + " was not created");
+        }
+        return new ServiceOverloadedException(
+                reason + " waiting for warrior " + id + " to be committed, it may still be created");
+    }
+
+    private void drainLoop() {
+        int maxBatch = settings.getBatchSize();
+        long lingerNanos = settings.getMaxLinger().toNanos();
+        List<PendingWarrior> batch = new ArrayList<>(maxBatch);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWarrior first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    PendingWarrior next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes the warriors whose callers are still waiting; the others were already
+     * answered and are skipped
+     */
+    private void commit(List<PendingWarrior> batch) {
+        List<PendingWarrior> claimed = new ArrayList<>(batch.size());
+        for (PendingWarrior pending : batch) {
+            if (pending.claim()) {
+                claimed.add(pending);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            insert(claimed);
+        }
+    }
+
+    private void insert(List<PendingWarrior> batch) {
+        List<NewWarrior> warriors = new ArrayList<>(batch.size());
+        for (PendingWarrior pending : batch) {
+            warriors.add(pending.warrior());
+        }
+
+        try {
+            commitLatency.record(() -> batchInserter.insertAll(warriors));
+            batchSize.record(batch.size());
+            batch.forEach(pending -> pending.committed().complete(null));
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                batch.get(0).committed().completeExceptionally(e);
+                return;
+            }
+            // One bad row must not fail its neighbours: retry them one by one
+            log.warn("Group commit of {} warriors failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (PendingWarrior pending : batch) {
+                insert(List.of(pending));
+            }
+        } catch (RuntimeException e) {
+            // The database is unreachable or failing: retrying row by row would only wait it out N times
+            log.warn("Group commit of {} warriors failed: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.committed().completeExceptionally(e));
+        }
+    }
+
+    private static final class PendingWarrior {
+
+        private final NewWarrior warrior;
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private PendingWarrior(NewWarrior warrior) {
+            this.warrior = warrior;
+        }
+
+        NewWarrior warrior() {
+            return warrior;
+        }
+
+        CompletableFuture<Void> committed() {
+            return committed;
+        }
+
+        /**
+         * Taken by a writer; false once the caller stopped waiting
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * True when no writer had claimed the warrior, which is then never written
+         */
+        boolean expire() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.api.ingest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the POST /warrior write path (warrior.ingest.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.ingest")
+public class IngestProperties {
+
+    /**
+     * Write strategy: "group-commit" (default), "jdbc" (one JDBC transaction per request)
+     * "jpa" (one saveAndFlush per request) or "wal" (acknowledge after a local log fsync)
+     */
+    private String mode = "group-commit";
+
+    private GroupCommit groupCommit = new GroupCommit();
+
+    private Wal wal = new Wal();
+
+    private Bulk bulk = new Bulk();
+
+    @Data
+    public static class GroupCommit {
+
+        /**
+         * Maximum number of warriors written in one transaction
+         */
+        private int batchSize = 200;
+
+        /**
+         * How long a writer waits for a batch to fill once it has the first request
+         */
+        private Duration maxLinger = Duration.ofMillis(2);
+
+        /**
+         * Pending creates allowed before callers are rejected with 503
+         */
+        private int queueCapacity = 10_000;
+
+        private int writerThreads = 4;
+
+        /**
+         * Upper bound a request thread waits for its batch to commit; a warrior
+         * still queued by then is dropped, one already being written may commit
+         */
+        private Duration responseTimeout = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class Wal {
+
+        /**
+         * Where log segments and the applied checkpoint live; must be on a durable local disk.
+         * Single-writer: an instance locks it and another one opening it fails at startup
+         */
+        private String directory = "data/wal";
+
+        /**
+         * Instances sharing the directory. Above 1, each takes the first unlocked
+         * instance-N subdirectory (N below this), so a restarted instance replays
+         * whatever one that died left behind
+         */
+        private int instances = 1;
+
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * Durable but unapplied log beyond which creates are rejected with 503
+         */
+        private DataSize maxLag = DataSize.ofGigabytes(1);
+
+        /**
+         * Records applied to Postgres per transaction
+         */
+        private int applyBatchSize = 1_000;
+
+        /**
+         * Upper bound a request thread waits for its record to be fsynced
+         */
+        private Duration syncTimeout = Duration.ofSeconds(5);
+    }
+
+    /**
+     * POST /warriors/bulk
+     */
+    @Data
+    public static class Bulk {
+
+        /**
+         * Records inserted per transaction, and results held back before they are written
+         */
+        private int batchSize = 1_000;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+import com.example.shared.ids.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One transaction per request over plain JDBC (warrior.ingest.mode=jdbc).
+ *
+ * Same statements as the group-commit writers, run on the request thread:
+ * no persistence context, no entity or dirty-check allocations, and the id
+ * is minted here as a UUIDv7 rather than by Hibernate.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.ingest", name = "mode", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcWarriorWriter implements WarriorWriter {
+
+    private final WarriorBatchInserter batchInserter;
+
+    @Override
+    public WarriorResponse write(CreateWarriorRequest request) {
+        NewWarrior warrior = new NewWarrior(
+                UuidV7.generate(), request.getName(), request.getDob(), request.getFightSkills());
+        batchInserter.insertAll(List.of(warrior));
+        return warrior.toResponse();
+    }
+}
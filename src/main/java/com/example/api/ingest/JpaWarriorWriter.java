@@ -0,0 +1,48 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+import com.example.api.entity.Warrior;
+import com.example.api.repository.SkillDictionary;
+import com.example.api.repository.WarriorRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * One transaction per request through Hibernate (warrior.ingest.mode=jpa)
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.ingest", name = "mode", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaWarriorWriter implements WarriorWriter {
+
+    private final WarriorRepository warriorRepository;
+    private final EntityManager entityManager;
+    private final SkillDictionary skillDictionary;
+
+    /**
+     * CRITICAL: Forces immediate flush+commit before returning 201 to client
+     */
+    @Override
+    @Transactional
+    public WarriorResponse write(CreateWarriorRequest request) {
+        Warrior warrior = Warrior.builder()
+                .name(request.getName())
+                .dob(request.getDob())
+                .fightSkillIds(skillDictionary.idsOf(request.getFightSkills()))
+                .build();
+
+        Warrior savedWarrior = warriorRepository.saveAndFlush(warrior);
+        entityManager.clear();
+
+        return WarriorResponse.builder()
+                .id(savedWarrior.getId())
+                .name(savedWarrior.getName())
+                .dob(savedWarrior.getDob())
+                .fightSkills(request.getFightSkills())
+                .build();
+    }
+}
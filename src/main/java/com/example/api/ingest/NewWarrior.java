@@ -0,0 +1,22 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.WarriorResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A warrior accepted for insertion, with its id already assigned by the application
+ */
+public record NewWarrior(UUID id, String name, LocalDate dob, List<String> fightSkills) {
+
+    public WarriorResponse toResponse() {
+        return WarriorResponse.builder()
+                .id(id)
+                .name(name)
+                .dob(dob)
+                .fightSkills(fightSkills)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.api.ingest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary form of a {@link NewWarrior} for the write-ahead log:
+ * id as two longs, dob as epoch day, then length-prefixed UTF-8 strings
+ */
+final class NewWarriorCodec {
+
+    private NewWarriorCodec() {
+    }
+
+    static byte[] encode(NewWarrior warrior) {
+        byte[] name = warrior.name().getBytes(StandardCharsets.UTF_8);
+        List<byte[]> skills = new ArrayList<>(warrior.fightSkills().size());
+        int size = 16 + 8 + 4 + name.length + 4;
+        for (String skill : warrior.fightSkills()) {
+            byte[] bytes = skill.getBytes(StandardCharsets.UTF_8);
+            skills.add(bytes);
+            size += 4 + bytes.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                .putLong(warrior.id().getMostSignificantBits())
+                .putLong(warrior.id().getLeastSignificantBits())
+                .putLong(warrior.dob().toEpochDay())
+                .putInt(name.length)
+                .put(name)
+                .putInt(skills.size());
+        for (byte[] skill : skills) {
+            buffer.putInt(skill.length).put(skill);
+        }
+        return buffer.array();
+    }
+
+    static NewWarrior decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        LocalDate dob = LocalDate.ofEpochDay(buffer.getLong());
+        String name = readString(buffer);
+        int skillCount = buffer.getInt();
+        List<String> skills = new ArrayList<>(skillCount);
+        for (int i = 0; i < skillCount; i++) {
+            skills.add(readString(buffer));
+        }
+        return new NewWarrior(id, name, dob, skills);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.api.ingest;
+
+/**
+ * Thrown when a write-ahead log directory is already locked by another instance
+ */
+public class WalDirectoryInUseException extends IllegalStateException {
+
+    public WalDirectoryInUseException(String message) {
+        super(message);
+    }
+}
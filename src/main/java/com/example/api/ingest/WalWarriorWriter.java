@@ -0,0 +1,276 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+import com.example.api.exception.ServiceOverloadedException;
+import com.example.shared.ids.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Write-ahead-log ingest stage (warrior.ingest.mode=wal).
+ *
+ * A create is acknowledged once its record is fsynced to the local log, not once
+ * Postgres has committed it. A single applier thread drains the log into the
+ * warriors tables in large idempotent batches and checkpoints what it applied, so
+ * records left over from a crash or shutdown are replayed on the next start.
+ *
+ * Reads, including the lookup cache, lag writes by the apply backlog
+ * (warrior.wal.lag.bytes): warriors are reported to {@link #onCommitted} once
+ * their batch is in Postgres. A record the database rejects cannot be retried
+ * and is appended to dead-letter.ndjson in the log directory instead.
+ *
+ * A 503 after the record was appended (sync timeout, failed log) does not mean
+ * the warrior was not created: the record may still reach the disk and be
+ * applied. The error names the warrior's id so the client can look it up.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.ingest", name = "mode", havingValue = "wal")
+@Slf4j
+public class WalWarriorWriter implements WarriorWriter {
+
+    private static final long IDLE_POLL_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final String DEAD_LETTER_FILE = "dead-letter.ndjson";
+
+    private final WarriorBatchInserter batchInserter;
+    private final IngestProperties.Wal settings;
+    private final Path directory;
+    private final WriteAheadLog wal;
+    private final ObjectMapper objectMapper;
+    private final Path deadLetters;
+    private final DistributionSummary applyBatchSize;
+    private final Counter deadLettered;
+    private final Thread applier;
+
+    private volatile boolean running;
+    private volatile Consumer<List<WarriorResponse>> committedCallback = committed -> {
+    };
+
+    public WalWarriorWriter(WarriorBatchInserter batchInserter,
+                            IngestProperties properties,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.batchInserter = batchInserter;
+        this.settings = properties.getWal();
+        this.objectMapper = objectMapper;
+        this.wal = openLog(settings, meterRegistry);
+        this.directory = wal.directory();
+        this.deadLetters = directory.resolve(DEAD_LETTER_FILE);
+        this.applyBatchSize = DistributionSummary.builder("warrior.wal.apply.batch.size")
+                .description("Logged warriors written per apply transaction")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("warrior.wal.dead.letters")
+                .description("Logged warriors the database rejected, moved to the dead-letter file")
+                .register(meterRegistry);
+        this.applier = new Thread(this::applyLoop, "warrior-wal-applier");
+        applier.setDaemon(true);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        applier.start();
+        log.info("WAL ingest started in {}: {} bytes to replay", directory, wal.lagBytes());
+    }
+
+    /**
+     * Opens the configured directory, or with several instances the first
+     * instance-N subdirectory no other instance holds
+     */
+    private static WriteAheadLog openLog(IngestProperties.Wal settings, MeterRegistry meterRegistry) {
+        Path base = Path.of(settings.getDirectory());
+        int segmentSize = (int) settings.getSegmentSize().toBytes();
+        if (settings.getInstances() <= 1) {
+            return new WriteAheadLog(base, segmentSize, meterRegistry);
+        }
+        for (int instance = 0; instance < settings.getInstances(); instance++) {
+            try {
+                return new WriteAheadLog(base.resolve("instance-" + instance), segmentSize, meterRegistry);
+            } catch (WalDirectoryInUseException e) {
+                log.debug("WAL directory instance-{} is taken, trying the next one", instance);
+            }
+        }
+        throw new WalDirectoryInUseException("All " + settings.getInstances()
+                + " write-ahead log directories under " + base + " are in use; raise warrior.ingest.wal.instances");
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // Flush what was accepted, then give the applier a bounded chance to catch up;
+        // anything left is replayed from the log on the next start
+        wal.close();
+        running = false;
+        applier.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Request threads only wait for the log fsync; the applier owns the connections
+     */
+    @Override
+    public boolean usesCallerConnection() {
+        return false;
+    }
+
+    @Override
+    public boolean acknowledgesBeforeCommit() {
+        return true;
+    }
+
+    @Override
+    public void onCommitted(Consumer<List<WarriorResponse>> callback) {
+        this.committedCallback = callback;
+    }
+
+    @Override
+    public WarriorResponse write(CreateWarriorRequest request) {
+        if (wal.failed()) {
+            throw new ServiceOverloadedException("Warrior write-ahead log has failed, creates are unavailable");
+        }
+        if (wal.lagBytes() > settings.getMaxLag().toBytes()) {
+            throw new ServiceOverloadedException("Warrior write-ahead log is too far ahead of the database, retry later");
+        }
+
+        NewWarrior warrior = new NewWarrior(
+                UuidV7.generate(), request.getName(), request.getDob(), request.getFightSkills());
+        long end = wal.append(NewWarriorCodec.encode(warrior));
+
+        try {
+            if (!wal.awaitDurable(end, settings.getSyncTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceOverloadedException(
+                        "Timed out waiting for warrior " + warrior.id() + " to be logged, it may still be created");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(
+                    "Interrupted waiting for warrior " + warrior.id() + " to be logged, it may still be created");
+        }
+
+        return warrior.toResponse();
+    }
+
+    private void applyLoop() {
+        long position = wal.appliedLsn();
+        long backoffMillis = IDLE_POLL_MILLIS;
+
+        while (running || position < wal.durableLsn()) {
+            List<NewWarrior> batch = new ArrayList<>(settings.getApplyBatchSize());
+            long next = wal.read(position, settings.getApplyBatchSize(),
+                    (payload, endLsn) -> batch.add(NewWarriorCodec.decode(payload)));
+            try {
+                if (!batch.isEmpty()) {
+                    List<NewWarrior> applied = new ArrayList<>(batch.size());
+                    apply(batch, applied);
+                    applyBatchSize.record(batch.size());
+                    reportCommitted(applied);
+                }
+                if (next != position) {
+                    wal.checkpoint(next);
+                    position = next;
+                    backoffMillis = IDLE_POLL_MILLIS;
+                    continue;
+                }
+                Thread.sleep(IDLE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The database is unreachable or failing: keep the records and retry later
+                log.warn("Applying {} logged warriors failed, retrying in {}ms: {}",
+                        batch.size(), backoffMillis, e.getMessage());
+                if (!sleep(backoffMillis)) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void apply(List<NewWarrior> batch, List<NewWarrior> applied) {
+        try {
+            batchInserter.insertMissing(batch);
+            applied.addAll(batch);
+        } catch (DataIntegrityViolationException e) {
+            if (batch.size() == 1) {
+                // Accepted but unstorable: retrying would wedge the log behind it forever
+                deadLetter(batch.get(0), e);
+                return;
+            }
+            // One bad row must not hold back its neighbours: retry them one by one
+            log.warn("Applying {} logged warriors failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (NewWarrior warrior : batch) {
+                apply(List.of(warrior), applied);
+            }
+        }
+    }
+
+    /**
+     * Keeps a rejected warrior where an operator can find and repair it; if this
+     * write fails too, the batch is retried rather than the warrior lost
+     */
+    private void deadLetter(NewWarrior warrior, DataIntegrityViolationException cause) {
+        log.error("Logged warrior {} rejected by the database, moving it to {}: {}",
+                warrior.id(), deadLetters, cause.getMessage());
+        try {
+            ObjectNode line = objectMapper.valueToTree(warrior.toResponse());
+            line.put("error", cause.getMostSpecificCause().getMessage());
+            byte[] bytes = (objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8);
+            try (FileChannel channel = FileChannel.open(deadLetters,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(bytes));
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write WAL dead letter for warrior " + warrior.id(), e);
+        }
+        deadLettered.increment();
+    }
+
+    private void reportCommitted(List<NewWarrior> applied) {
+        if (applied.isEmpty()) {
+            return;
+        }
+        List<WarriorResponse> committed = new ArrayList<>(applied.size());
+        for (NewWarrior warrior : applied) {
+            committed.add(warrior.toResponse());
+        }
+        try {
+            committedCallback.accept(committed);
+        } catch (RuntimeException e) {
+            // The batch is committed; re-applying it would not make the callback succeed
+            log.warn("Reporting {} applied warriors failed: {}", committed.size(), e.getMessage());
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.api.ingest;
+
+import com.example.api.repository.SkillDictionary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a batch of warriors with multi-row INSERTs in a single transaction,
+ * bypassing the Hibernate persistence context entirely.
+ *
+ * Skill names are resolved to dictionary ids before the transaction opens, so
+ * interning a new skill never holds up the batch's connection.
+ */
+@Component
+public class WarriorBatchInserter {
+
+    // PostgreSQL rejects statements with more than 32767 bind parameters
+    private static final int MAX_BIND_PARAMETERS = 30_000;
+
+    private static final String INSERT_WARRIORS =
+            "INSERT INTO warriors (id, name, dob, created_at, updated_at) VALUES ";
+    private static final String WARRIOR_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SKILLS =
+            "INSERT INTO warrior_skills (warrior_id, position, skill_id) VALUES ";
+    private static final String SKILL_ROW = "(?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillDictionary skillDictionary;
+    private final TransactionTemplate transactionTemplate;
+
+    public WarriorBatchInserter(JdbcTemplate jdbcTemplate,
+                                SkillDictionary skillDictionary,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.skillDictionary = skillDictionary;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void insertAll(List<NewWarrior> warriors) {
+        insert(warriors, "");
+    }
+
+    /**
+     * Like insertAll, but rows whose key already exists are skipped; used to replay a log
+     * that may already have been partly applied
+     */
+    public void insertMissing(List<NewWarrior> warriors) {
+        insert(warriors, " ON CONFLICT DO NOTHING");
+    }
+
+    private void insert(List<NewWarrior> warriors, String conflictClause) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> warriorRows = new ArrayList<>(warriors.size());
+        List<Object[]> skillRows = new ArrayList<>();
+        for (NewWarrior warrior : warriors) {
+            warriorRows.add(new Object[] {
+                    warrior.id(), warrior.name(), Date.valueOf(warrior.dob()), now, now });
+            List<Integer> skillIds = skillDictionary.idsOf(warrior.fightSkills());
+            for (int position = 0; position < skillIds.size(); position++) {
+                skillRows.add(new Object[] { warrior.id(), position, skillIds.get(position) });
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertRows(INSERT_WARRIORS, WARRIOR_ROW, 5, warriorRows, conflictClause);
+            insertRows(INSERT_SKILLS, SKILL_ROW, 3, skillRows, conflictClause);
+        });
+    }
+
+    private void insertRows(String insertPrefix, String rowPlaceholder, int columns,
+                            List<Object[]> rows, String conflictClause) {
+        int rowsPerStatement = MAX_BIND_PARAMETERS / columns;
+
+        for (int from = 0; from < rows.size(); from += rowsPerStatement) {
+            List<Object[]> chunk = rows.subList(from, Math.min(rows.size(), from + rowsPerStatement));
+
+            StringBuilder sql = new StringBuilder(
+                    insertPrefix.length() + chunk.size() * (rowPlaceholder.length() + 2) + conflictClause.length())
+                    .append(insertPrefix);
+            Object[] args = new Object[chunk.size() * columns];
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(rowPlaceholder);
+                System.arraycopy(chunk.get(i), 0, args, i * columns, columns);
+            }
+            sql.append(conflictClause);
+
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Persists new warriors. Implementations must only return once the
+ * warrior is committed, so a 201 never precedes the database commit,
+ * unless they declare {@link #acknowledgesBeforeCommit()}.
+ */
+public interface WarriorWriter {
+
+    WarriorResponse write(CreateWarriorRequest request);
+
+    /**
+     * Whether write holds a pooled connection on the calling request thread
+     */
+    default boolean usesCallerConnection() {
+        return true;
+    }
+
+    /**
+     * Whether write returns before the warrior is in the database; such a writer
+     * reports the commit later to the {@link #onCommitted} callback
+     */
+    default boolean acknowledgesBeforeCommit() {
+        return false;
+    }
+
+    /**
+     * Sets the callback for warriors committed after write returned. Only
+     * writers that acknowledge before the commit ever call it.
+     */
+    default void onCommitted(Consumer<List<WarriorResponse>> callback) {
+    }
+}
@@ -0,0 +1,534 @@
+package com.example.api.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmented, memory-mapped append log with group fsync.
+ *
+ * Positions (LSNs) are byte offsets into one logical log; segment files are named
+ * after the LSN of their first byte. A record is [length][crc32c][payload] and a
+ * zero length marks the unused tail of a segment. Appends only copy into the
+ * mapping; a single flusher thread forces the head segment for every append that
+ * arrived since its last sync, so concurrent writers share one fsync.
+ *
+ * On open, segments are scanned from the start and the log is cut at the first
+ * torn or corrupt record - anything after it was never reported durable.
+ *
+ * A failed fsync leaves the log {@link #failed()}: the durable position stops
+ * advancing, waiters are released at once and further appends are refused.
+ * Whether the unsynced tail reached the disk is only known on the next open.
+ *
+ * The directory is single-writer: the log holds an exclusive lock on its lock
+ * file while open, and a second process opening the same directory fails
+ * instead of appending to the same segments and replaying the same records.
+ */
+@Slf4j
+public class WriteAheadLog implements Closeable {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "applied.checkpoint";
+    private static final String LOCK_FILE = "wal.lock";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition appended = syncLock.newCondition();
+    private final Condition synced = syncLock.newCondition();
+
+    private final Counter rollovers;
+    private final Timer fsyncLatency;
+    private final Thread flusher;
+    private final FileChannel lockChannel;
+
+    private Segment head;
+    private volatile long writtenLsn;
+    private volatile long durableLsn;
+    private volatile long appliedLsn;
+    private volatile boolean open = true;
+    private volatile RuntimeException failure;
+
+    public WriteAheadLog(Path directory, int segmentSize, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = lock(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open write-ahead log in " + directory, e);
+        }
+        try {
+            recover();
+        } catch (IOException e) {
+            closeQuietly(lockChannel);
+            throw new UncheckedIOException("Could not open write-ahead log in " + directory, e);
+        } catch (RuntimeException e) {
+            closeQuietly(lockChannel);
+            throw e;
+        }
+
+        this.rollovers = Counter.builder("warrior.wal.segment.rollovers")
+                .description("Write-ahead log segments filled and replaced by a new one")
+                .register(meterRegistry);
+        this.fsyncLatency = Timer.builder("warrior.wal.fsync.latency")
+                .description("Time to force one group of appends to disk")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("warrior.wal.durable.position", this, WriteAheadLog::durableLsn)
+                .description("Log position up to which appends are on disk")
+                .register(meterRegistry);
+        Gauge.builder("warrior.wal.applied.position", this, WriteAheadLog::appliedLsn)
+                .description("Log position up to which records are committed to Postgres")
+                .register(meterRegistry);
+        Gauge.builder("warrior.wal.lag.bytes", this, WriteAheadLog::lagBytes)
+                .description("Durable log bytes not yet applied to Postgres")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("warrior.wal.segments", segments, Map::size)
+                .description("Write-ahead log segment files on disk")
+                .register(meterRegistry);
+        Gauge.builder("warrior.wal.failed", this, wal -> wal.failed() ? 1 : 0)
+                .description("1 once an fsync has failed and the log refuses appends")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::flushLoop, "warrior-wal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Copies one record into the log and returns the position just past it;
+     * the record is durable once {@link #awaitDurable} for that position returns true
+     */
+    public long append(byte[] payload) {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds the segment size");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        long end;
+        appendLock.lock();
+        try {
+            if (!open) {
+                throw new IllegalStateException("Write-ahead log is closed");
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Write-ahead log failed", failure);
+            }
+            if (head.position + recordBytes > head.capacity) {
+                rollover();
+            }
+            MappedByteBuffer buffer = head.buffer;
+            int offset = head.position;
+            buffer.putInt(offset + 4, (int) crc.getValue());
+            buffer.put(offset + HEADER_BYTES, payload);
+            // Length last: a reader or recovery never sees a length without its payload
+            buffer.putInt(offset, payload.length);
+            head.position = offset + recordBytes;
+            end = head.base + head.position;
+            writtenLsn = end;
+        } finally {
+            appendLock.unlock();
+        }
+
+        syncLock.lock();
+        try {
+            appended.signal();
+        } finally {
+            syncLock.unlock();
+        }
+        return end;
+    }
+
+    /**
+     * Blocks until everything before {@code lsn} has been forced to disk; false on
+     * timeout, or at once when the log is closed or has failed
+     */
+    public boolean awaitDurable(long lsn, long timeout, TimeUnit unit) throws InterruptedException {
+        if (durableLsn >= lsn) {
+            return true;
+        }
+        long remaining = unit.toNanos(timeout);
+        syncLock.lock();
+        try {
+            while (durableLsn < lsn) {
+                if (remaining <= 0 || !open || failure != null) {
+                    return false;
+                }
+                remaining = synced.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Hands up to {@code maxRecords} durable records starting at {@code from} to the
+     * consumer and returns the position after the last one read
+     */
+    public long read(long from, int maxRecords, RecordConsumer consumer) {
+        long lsn = Math.max(from, firstLsn());
+        long limit = durableLsn;
+        int read = 0;
+        while (read < maxRecords && lsn < limit) {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(lsn);
+            if (entry == null) {
+                break;
+            }
+            Segment segment = entry.getValue();
+            int offset = (int) (lsn - segment.base);
+            int length = offset + HEADER_BYTES <= segment.capacity ? segment.buffer.getInt(offset) : 0;
+            if (length == 0) {
+                // Unused tail of a full segment: continue in the next one
+                lsn = segment.base + segment.capacity;
+                continue;
+            }
+            byte[] payload = new byte[length];
+            segment.buffer.get(offset + HEADER_BYTES, payload);
+            lsn += HEADER_BYTES + length;
+            consumer.accept(payload, lsn);
+            read++;
+        }
+        return lsn;
+    }
+
+    /**
+     * Records that everything before {@code lsn} is in Postgres and removes segments
+     * that lie entirely before it
+     */
+    public void checkpoint(long lsn) {
+        try {
+            Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap(Long.toString(lsn).getBytes(StandardCharsets.US_ASCII)));
+                channel.force(true);
+            }
+            Files.move(tmp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory();
+            appliedLsn = lsn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write write-ahead log checkpoint", e);
+        }
+
+        // The head always ends past the written position, so it is never removed here
+        for (Segment segment : segments.values()) {
+            if (segment.base + segment.capacity > lsn) {
+                break;
+            }
+            segments.remove(segment.base);
+            try {
+                // The mapping itself is released once the buffer is collected
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                log.warn("Could not delete applied WAL segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public long appliedLsn() {
+        return appliedLsn;
+    }
+
+    public long durableLsn() {
+        return durableLsn;
+    }
+
+    public long lagBytes() {
+        return Math.max(0, durableLsn - appliedLsn);
+    }
+
+    public boolean failed() {
+        return failure != null;
+    }
+
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            open = false;
+        } finally {
+            appendLock.unlock();
+        }
+        syncLock.lock();
+        try {
+            appended.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Closing the channel releases the directory lock
+        closeQuietly(lockChannel);
+    }
+
+    /**
+     * Takes the directory's exclusive lock, held until the channel is closed
+     */
+    private static FileChannel lock(Path directory) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another log in this JVM
+            lock = null;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+        if (lock == null) {
+            closeQuietly(channel);
+            throw new WalDirectoryInUseException("Write-ahead log directory " + directory
+                    + " is in use by another instance; each instance needs its own directory");
+        }
+        return channel;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close write-ahead log lock file: {}", e.getMessage());
+        }
+    }
+
+    private long firstLsn() {
+        return segments.firstKey();
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            Segment segment;
+            syncLock.lock();
+            try {
+                while (open && writtenLsn == durableLsn) {
+                    appended.awaitUninterruptibly();
+                }
+                if (!open && writtenLsn == durableLsn) {
+                    synced.signalAll();
+                    return;
+                }
+            } finally {
+                syncLock.unlock();
+            }
+
+            appendLock.lock();
+            try {
+                target = writtenLsn;
+                segment = head;
+            } finally {
+                appendLock.unlock();
+            }
+
+            // Earlier segments were forced when they were rolled over
+            try {
+                fsyncLatency.record(segment.buffer::force);
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            syncLock.lock();
+            try {
+                durableLsn = target;
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    private void fail(RuntimeException e) {
+        log.error("Write-ahead log fsync failed at {}, refusing further appends", durableLsn, e);
+        syncLock.lock();
+        try {
+            failure = e;
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void rollover() {
+        try {
+            head.buffer.force();
+        } catch (RuntimeException e) {
+            // The flusher only forces the head, so this segment's tail would never be synced
+            fail(e);
+            throw e;
+        }
+        try {
+            head = createSegment(head.base + head.capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll over write-ahead log segment", e);
+        }
+        rollovers.increment();
+    }
+
+    private Segment createSegment(long base) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, base, SEGMENT_SUFFIX));
+        Segment segment = mapSegment(path, base, segmentSize);
+        forceDirectory();
+        segments.put(base, segment);
+        return segment;
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.filter(p -> p.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .forEach(files::add);
+        }
+
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        long checkpointLsn = Files.exists(checkpoint)
+                ? Long.parseLong(Files.readString(checkpoint, StandardCharsets.US_ASCII).trim())
+                : 0;
+
+        if (files.isEmpty()) {
+            head = createSegment(checkpointLsn);
+            writtenLsn = checkpointLsn;
+            durableLsn = checkpointLsn;
+            appliedLsn = checkpointLsn;
+            return;
+        }
+
+        boolean truncated = false;
+        for (Path file : files) {
+            if (truncated) {
+                log.warn("Discarding WAL segment {} after a torn record", file);
+                Files.delete(file);
+                continue;
+            }
+            String name = file.getFileName().toString();
+            long base = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            Segment segment = mapSegment(file, base, (int) Files.size(file));
+            truncated = scan(segment);
+            segments.put(base, segment);
+            head = segment;
+        }
+        writtenLsn = head.base + head.position;
+        durableLsn = writtenLsn;
+        appliedLsn = Math.max(checkpointLsn, firstLsn());
+        log.info("Recovered write-ahead log: {} segments, applied {} of {}", segments.size(), appliedLsn, writtenLsn);
+    }
+
+    /**
+     * Finds the end of the valid records in a segment; returns true when it had to
+     * cut off a torn record, in which case later segments cannot be trusted either
+     */
+    private static boolean scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segment.capacity) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || offset + HEADER_BYTES + length > segment.capacity
+                    || !checksumMatches(buffer, offset, length)) {
+                log.warn("Torn WAL record at {} in {}, truncating", segment.base + offset, segment.path);
+                for (int i = offset; i < segment.capacity; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                buffer.force();
+                segment.position = offset;
+                return true;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        segment.position = offset;
+        return false;
+    }
+
+    private static boolean checksumMatches(MappedByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset + HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(offset + 4);
+    }
+
+    private static Segment mapSegment(Path path, long base, int capacity) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            if (file.length() < capacity) {
+                file.setLength(capacity);
+            }
+            MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new Segment(path, base, capacity, buffer);
+        }
+    }
+
+    private void forceDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(byte[] payload, long endLsn);
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final long base;
+        private final int capacity;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(Path path, long base, int capacity, MappedByteBuffer buffer) {
+            this.path = path;
+            this.base = base;
+            this.capacity = capacity;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.api.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interning cache over the skills table.
+ *
+ * The generator only ever produces a couple of dozen distinct skills, so the
+ * whole dictionary lives in memory: writes translate skill names to ids and
+ * reads translate ids back without joining skills. Unknown names are inserted
+ * in their own committed transaction before they are cached, so a cached id
+ * always exists in the table even if the caller's transaction rolls back.
+ * Ids interned by other replicas are loaded on first sight.
+ */
+@Repository
+@Slf4j
+public class SkillDictionary {
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate newTransaction;
+
+    public SkillDictionary(JdbcTemplate jdbcTemplate,
+                           NamedParameterJdbcTemplate namedJdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        jdbcTemplate.query("SELECT id, name FROM skills",
+                rs -> { cache(rs.getInt("id"), rs.getString("name")); });
+        log.info("Skill dictionary loaded {} skills", namesById.size());
+    }
+
+    /**
+     * Ids for the given skill names, in the same order, interning unknown names
+     */
+    public List<Integer> idsOf(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> missing = null;
+        for (String name : names) {
+            if (!idsByName.containsKey(name)) {
+                if (missing == null) {
+                    missing = new LinkedHashSet<>();
+                }
+                missing.add(name);
+            }
+        }
+        if (missing != null) {
+            intern(missing);
+        }
+
+        List<Integer> ids = new ArrayList<>(names.size());
+        for (String name : names) {
+            ids.add(idsByName.get(name));
+        }
+        return ids;
+    }
+
+    public String nameOf(int id) {
+        String name = namesById.get(id);
+        if (name == null) {
+            name = jdbcTemplate.queryForObject("SELECT name FROM skills WHERE id = ?", String.class, id);
+            cache(id, name);
+        }
+        return name;
+    }
+
+    private void intern(Set<String> names) {
+        List<String> batch = new ArrayList<>(names);
+        newTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO skills (name) VALUES (?) ON CONFLICT (name) DO NOTHING",
+                    batch, batch.size(), (ps, name) -> ps.setString(1, name));
+            namedJdbcTemplate.query("SELECT id, name FROM skills WHERE name IN (:names)",
+                    new MapSqlParameterSource("names", batch),
+                    rs -> { cache(rs.getInt("id"), rs.getString("name")); });
+        });
+    }
+
+    private void cache(int id, String name) {
+        idsByName.put(name, id);
+        namesById.put(id, name);
+    }
+}
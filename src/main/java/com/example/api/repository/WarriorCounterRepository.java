@@ -0,0 +1,25 @@
+package com.example.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the trigger-maintained warrior_counter table.
+ *
+ * The count is updated in the same transaction as every insert or delete on
+ * warriors, whichever replica or write path made it, so this is an exact
+ * count at a fixed cost of summing the counter slots.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarriorCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(count), 0) FROM warrior_counter", Long.class);
+        return count != null ? count : 0L;
+    }
+}
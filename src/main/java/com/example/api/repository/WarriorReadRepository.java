@@ -0,0 +1,214 @@
+package com.example.api.repository;
+
+import com.example.api.dto.WarriorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read side of the warriors tables over plain JDBC.
+ *
+ * Each method is a single round trip that joins warriors with their skills
+ * and folds the rows straight into {@link WarriorResponse}s, so reads never
+ * touch the persistence context and never trigger lazy collection loads.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarriorReadRepository {
+
+    private static final String SELECT_WARRIOR_ROWS =
+            "SELECT w.id, w.name, w.dob, ws.skill_id FROM warriors w " +
+            "LEFT JOIN warrior_skills ws ON ws.warrior_id = w.id ";
+
+    private static final String SKILL_ORDER = " ORDER BY w.id, ws.position";
+
+    // Each branch is capped on its own, so neither side reads past the first
+    // page before the join. Skill matches are resolved against the small
+    // skills dictionary first and then looked up by id in warrior_skills
+    private static final String SEARCH_HITS =
+            "SELECT hits.id FROM (" +
+            "(SELECT w.id FROM warriors w " +
+            "WHERE lower(w.name) LIKE :pattern ESCAPE '\\' LIMIT :limit) " +
+            "UNION " +
+            "(SELECT ws.warrior_id FROM warrior_skills ws " +
+            "WHERE ws.skill_id IN (SELECT k.id FROM skills k " +
+            "WHERE lower(k.name) LIKE :pattern ESCAPE '\\') LIMIT :limit)" +
+            ") hits LIMIT :limit";
+
+    private static final String SEARCH_ROWS =
+            "SELECT w.id, w.name, w.dob, ws.skill_id FROM (" + SEARCH_HITS + ") matched " +
+            "JOIN warriors w ON w.id = matched.id " +
+            "LEFT JOIN warrior_skills ws ON ws.warrior_id = w.id" + SKILL_ORDER;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SkillDictionary skillDictionary;
+
+    public Optional<WarriorResponse> findById(UUID id) {
+        WarriorRowCollector collector = new WarriorRowCollector();
+        jdbcTemplate.query(SELECT_WARRIOR_ROWS + "WHERE w.id = :id" + SKILL_ORDER,
+                new MapSqlParameterSource("id", id), collector);
+        return collector.results().stream().findFirst();
+    }
+
+    /**
+     * Loads the given warriors, in the order of ids; unknown ids are skipped
+     */
+    public List<WarriorResponse> findAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        WarriorRowCollector collector = new WarriorRowCollector();
+        jdbcTemplate.query(SELECT_WARRIOR_ROWS + "WHERE w.id IN (:ids)" + SKILL_ORDER,
+                new MapSqlParameterSource("ids", ids), collector);
+
+        Map<UUID, WarriorResponse> byId = collector.byId();
+        List<WarriorResponse> ordered = new ArrayList<>(byId.size());
+        for (UUID id : ids) {
+            WarriorResponse warrior = byId.get(id);
+            if (warrior != null) {
+                ordered.add(warrior);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Up to limit warriors whose name or any skill matches the pattern (see containsPattern)
+     */
+    public List<WarriorResponse> search(String pattern, int limit) {
+        WarriorRowCollector collector = new WarriorRowCollector();
+        jdbcTemplate.query(SEARCH_ROWS, searchParameters(pattern, limit), collector);
+        return collector.results();
+    }
+
+    /**
+     * Same rows as search, handed to the sink one warrior at a time as they are read
+     */
+    public void streamSearch(String pattern, int limit, WarriorSink sink) {
+        jdbcTemplate.query(SEARCH_ROWS, searchParameters(pattern, limit), new StreamingRowHandler(sink));
+    }
+
+    /**
+     * Hands the given warriors to the sink in id order; unknown ids are skipped
+     */
+    public void streamByIds(Collection<UUID> ids, WarriorSink sink) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(SELECT_WARRIOR_ROWS + "WHERE w.id IN (:ids)" + SKILL_ORDER,
+                new MapSqlParameterSource("ids", ids), new StreamingRowHandler(sink));
+    }
+
+    /**
+     * Verifies search-index candidates: which of the given ids really match the pattern
+     */
+    public List<UUID> findIdsMatching(Collection<UUID> ids, String pattern) {
+        return jdbcTemplate.queryForList(
+                "SELECT w.id FROM warriors w " +
+                "WHERE w.id IN (:ids) " +
+                "AND (lower(w.name) LIKE :pattern ESCAPE '\\' " +
+                "OR EXISTS (SELECT 1 FROM warrior_skills ws " +
+                "JOIN skills k ON k.id = ws.skill_id " +
+                "WHERE ws.warrior_id = w.id AND lower(k.name) LIKE :pattern ESCAPE '\\'))",
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("pattern", pattern),
+                UUID.class);
+    }
+
+    private static MapSqlParameterSource searchParameters(String pattern, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("pattern", pattern)
+                .addValue("limit", limit);
+    }
+
+    /**
+     * Builds the case-insensitive LIKE pattern for a substring search,
+     * escaping the term's own wildcards
+     */
+    public static String containsPattern(String term) {
+        StringBuilder pattern = new StringBuilder(term.length() + 2).append('%');
+        for (int i = 0; i < term.length(); i++) {
+            char c = Character.toLowerCase(term.charAt(i));
+            if (c == '%' || c == '_' || c == '\\') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * Folds (warrior, skill id) join rows into one response per warrior, in
+     * first-seen order, naming skills through the dictionary
+     */
+    private final class WarriorRowCollector implements RowCallbackHandler {
+        private final Map<UUID, WarriorResponse> warriors = new LinkedHashMap<>();
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID id = rs.getObject("id", UUID.class);
+            WarriorResponse warrior = warriors.get(id);
+            if (warrior == null) {
+                warrior = WarriorResponse.builder()
+                        .id(id)
+                        .name(rs.getString("name"))
+                        .dob(rs.getObject("dob", LocalDate.class))
+                        .fightSkills(new ArrayList<>())
+                        .build();
+                warriors.put(id, warrior);
+            }
+            int skillId = rs.getInt("skill_id");
+            if (!rs.wasNull()) {
+                warrior.getFightSkills().add(skillDictionary.nameOf(skillId));
+            }
+        }
+
+        Map<UUID, WarriorResponse> byId() {
+            return warriors;
+        }
+
+        List<WarriorResponse> results() {
+            return new ArrayList<>(warriors.values());
+        }
+    }
+
+    /**
+     * Passes (warrior, skill id) join rows straight to a sink; relies on the
+     * rows of one warrior being adjacent, which SKILL_ORDER guarantees
+     */
+    private final class StreamingRowHandler implements RowCallbackHandler {
+        private final WarriorSink sink;
+        private UUID current;
+
+        StreamingRowHandler(WarriorSink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            UUID id = rs.getObject("id", UUID.class);
+            if (!id.equals(current)) {
+                sink.warrior(id, rs.getString("name"), rs.getObject("dob", LocalDate.class));
+                current = id;
+            }
+            int skillId = rs.getInt("skill_id");
+            if (!rs.wasNull()) {
+                sink.fightSkill(skillDictionary.nameOf(skillId));
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.api.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Receives warriors from a streaming read as their rows arrive, instead of
+ * a materialized list. Each warrior is followed by its skills in order;
+ * the next warrior (or the end of the read) closes the previous one.
+ */
+public interface WarriorSink {
+
+    void warrior(UUID id, String name, LocalDate dob);
+
+    void fightSkill(String skill);
+}
@@ -0,0 +1,36 @@
+package com.example.api.search;
+
+import com.example.api.dto.WarriorResponse;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Candidate lookup for substring searches: {@link WarriorSearchIndex}, or
+ * {@link #NONE} when warrior.search.index is disabled
+ */
+public interface SearchIndex {
+
+    /**
+     * Never answers, so every search goes to the database
+     */
+    SearchIndex NONE = new SearchIndex() {
+        @Override
+        public void add(WarriorResponse warrior) {
+        }
+
+        @Override
+        public Optional<List<UUID>> search(String term, int limit) {
+            return Optional.empty();
+        }
+    };
+
+    void add(WarriorResponse warrior);
+
+    /**
+     * Returns up to limit ids of warriors whose name or skills contain term,
+     * or empty when the index cannot answer and the caller must query Postgres
+     */
+    Optional<List<UUID>> search(String term, int limit);
+}
@@ -0,0 +1,42 @@
+package com.example.api.search;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process trigram search index (warrior.search.index.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.search.index")
+public class SearchIndexProperties {
+
+    /**
+     * Build the index at startup and answer GET /warrior?t= from it
+     */
+    private boolean enabled = false;
+
+    /**
+     * Candidate ids sent to Postgres per verification query
+     */
+    private int verifyBatchSize = 500;
+
+    /**
+     * JDBC fetch size used while streaming the table into the index
+     */
+    private int buildFetchSize = 10_000;
+
+    /**
+     * How often warriors created by other replicas are pulled into the index; 0 turns
+     * the catch-up off, and the index then only sees this replica's creates until restart
+     */
+    private Duration catchUpInterval = Duration.ofSeconds(5);
+
+    /**
+     * How far behind its id's timestamp a warrior may commit and still be caught up:
+     * covers transaction time and clock skew between replicas. Warriors committed
+     * later than this (a WAL applier catching up after an outage) appear on restart
+     */
+    private Duration catchUpOverlap = Duration.ofSeconds(30);
+}
@@ -0,0 +1,190 @@
+package com.example.api.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive trigram inverted index over warrior names and skills.
+ *
+ * Every warrior gets a dense int document number; ids are kept in parallel
+ * long arrays and each trigram maps to a sorted int[] posting list. Because
+ * documents are only ever appended, posting lists stay sorted and can be
+ * intersected with a linear merge. The index only narrows the candidate set:
+ * a document containing all trigrams of a term is not guaranteed to contain
+ * the term itself, so callers must verify candidates.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int[] NO_DOCS = new int[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    private long[] idHigh = new long[INITIAL_CAPACITY];
+    private long[] idLow = new long[INITIAL_CAPACITY];
+    private int documents;
+
+    /**
+     * Indexes a warrior and returns its document number
+     */
+    public int add(UUID id, String name, List<String> fightSkills) {
+        long[] grams = gramsOf(name, fightSkills);
+
+        lock.writeLock().lock();
+        try {
+            int doc = documents++;
+            if (doc == idHigh.length) {
+                idHigh = Arrays.copyOf(idHigh, doc * 2);
+                idLow = Arrays.copyOf(idLow, doc * 2);
+            }
+            idHigh[doc] = id.getMostSignificantBits();
+            idLow[doc] = id.getLeastSignificantBits();
+
+            for (long gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).append(doc);
+            }
+            return doc;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the sorted documents containing every trigram of the term,
+     * or null when the term is too short to be answered by the index
+     */
+    public int[] candidates(String term) {
+        if (term.length() < GRAM_LENGTH) {
+            return null;
+        }
+        long[] grams = new long[term.length() - GRAM_LENGTH + 1];
+        int count = collectGrams(term, grams, 0);
+        grams = distinct(grams, count);
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return NO_DOCS;
+                }
+            }
+            // Start from the rarest trigram so the working set only shrinks
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            int[] result = Arrays.copyOf(lists[0].docs, lists[0].size);
+            int size = result.length;
+            for (int i = 1; i < lists.length && size > 0; i++) {
+                size = intersect(result, size, lists[i].docs, lists[i].size);
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public UUID idOf(int doc) {
+        lock.readLock().lock();
+        try {
+            return new UUID(idHigh[doc], idLow[doc]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Intersects sorted a[0..aSize) with sorted b[0..bSize) in place, returning the new size of a
+     */
+    private static int intersect(int[] a, int aSize, int[] b, int bSize) {
+        int i = 0;
+        int j = 0;
+        int out = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                a[out++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return out;
+    }
+
+    private static long[] gramsOf(String name, List<String> fightSkills) {
+        int capacity = Math.max(0, name.length() - GRAM_LENGTH + 1);
+        if (fightSkills != null) {
+            for (String skill : fightSkills) {
+                capacity += Math.max(0, skill.length() - GRAM_LENGTH + 1);
+            }
+        }
+
+        long[] grams = new long[capacity];
+        int count = collectGrams(name, grams, 0);
+        if (fightSkills != null) {
+            for (String skill : fightSkills) {
+                count = collectGrams(skill, grams, count);
+            }
+        }
+        return distinct(grams, count);
+    }
+
+    /**
+     * Packs each lower-cased 3-char window of text into a long (16 bits per char)
+     */
+    private static int collectGrams(String text, long[] grams, int offset) {
+        int count = offset;
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams[count++] = ((long) Character.toLowerCase(text.charAt(i)) << 32)
+                    | ((long) Character.toLowerCase(text.charAt(i + 1)) << 16)
+                    | Character.toLowerCase(text.charAt(i + 2));
+        }
+        return count;
+    }
+
+    private static long[] distinct(long[] grams, int count) {
+        if (count == 0) {
+            return new long[0];
+        }
+        Arrays.sort(grams, 0, count);
+        int unique = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[unique - 1]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        void append(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.api.search;
+
+import com.example.api.dto.WarriorResponse;
+import com.example.api.repository.SkillDictionary;
+import com.example.api.repository.WarriorReadRepository;
+import com.example.shared.ids.UuidV7;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers substring searches from a {@link TrigramIndex} instead of a
+ * sequential scan. The index is loaded from the warriors table in the
+ * background once the application is up and kept current by createWarrior;
+ * until it is loaded (or for terms shorter than a trigram) callers fall back
+ * to the database query.
+ *
+ * Warriors created by other replicas are pulled in every catch-up-interval by
+ * an id range scan: UUIDv7 ids start with their creation time, so the ids
+ * minted since the last pass (less catch-up-overlap, for late commits and
+ * clock skew) form one primary key range. Ids indexed within the overlap are
+ * remembered so a row seen twice is only indexed once.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warrior.search.index", name = "enabled", havingValue = "true")
+@Slf4j
+public class WarriorSearchIndex implements SearchIndex {
+
+    private static final String LOAD_QUERY =
+            "SELECT w.id, w.name, ws.skill_id FROM warriors w " +
+            "LEFT JOIN warrior_skills ws ON ws.warrior_id = w.id " +
+            "ORDER BY w.id, ws.position";
+
+    private static final String CATCH_UP_QUERY =
+            "SELECT w.id, w.name, ws.skill_id FROM warriors w " +
+            "LEFT JOIN warrior_skills ws ON ws.warrior_id = w.id " +
+            "WHERE w.id >= ? AND w.id < ? " +
+            "ORDER BY w.id, ws.position";
+
+    private final TrigramIndex index = new TrigramIndex();
+    // UUIDv7 ids indexed within catch-up-overlap of the last pass
+    private final Set<UUID> recent = ConcurrentHashMap.newKeySet();
+    private final WarriorReadRepository readRepository;
+    private final SkillDictionary skillDictionary;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SearchIndexProperties properties;
+
+    private volatile boolean ready;
+    private volatile Thread builder;
+    // Ids minted before this (Unix millis), less the overlap, are already indexed
+    private volatile long caughtUpTo;
+
+    public WarriorSearchIndex(WarriorReadRepository readRepository,
+                              SkillDictionary skillDictionary,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              SearchIndexProperties properties) {
+        this.readRepository = readRepository;
+        this.skillDictionary = skillDictionary;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        builder = new Thread(this::buildAndCatchUp, "warrior-search-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        Thread running = builder;
+        if (running != null) {
+            running.interrupt();
+        }
+    }
+
+    /**
+     * Adds a freshly committed warrior. A legacy (non-v7) id indexed while the
+     * initial load is running may be indexed twice, which only yields a
+     * duplicate candidate that verification collapses.
+     */
+    @Override
+    public void add(WarriorResponse warrior) {
+        addOnce(warrior.getId(), warrior.getName(), warrior.getFightSkills());
+    }
+
+    @Override
+    public Optional<List<UUID>> search(String term, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        int[] candidates = index.candidates(term);
+        if (candidates == null) {
+            return Optional.empty();
+        }
+
+        String pattern = WarriorReadRepository.containsPattern(term);
+        List<UUID> matches = new ArrayList<>(Math.min(limit, candidates.length));
+        int batchSize = properties.getVerifyBatchSize();
+
+        for (int from = 0; from < candidates.length && matches.size() < limit; from += batchSize) {
+            int[] slice = Arrays.copyOfRange(candidates, from, Math.min(candidates.length, from + batchSize));
+            List<UUID> ids = new ArrayList<>(slice.length);
+            for (int doc : slice) {
+                ids.add(index.idOf(doc));
+            }
+
+            for (UUID id : readRepository.findIdsMatching(ids, pattern)) {
+                if (matches.size() == limit) {
+                    break;
+                }
+                if (!matches.contains(id)) {
+                    matches.add(id);
+                }
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    private void buildAndCatchUp() {
+        if (!build()) {
+            return;
+        }
+        long intervalMillis = properties.getCatchUpInterval().toMillis();
+        if (intervalMillis <= 0) {
+            return;
+        }
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(intervalMillis);
+                catchUp();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // Retried next interval from the same point, nothing is skipped
+                log.warn("Search index catch-up failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private boolean build() {
+        long started = System.currentTimeMillis();
+        try {
+            caughtUpTo = started;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+                streaming.setFetchSize(properties.getBuildFetchSize());
+                streaming.query(LOAD_QUERY, new WarriorRowCollector());
+            });
+            ready = true;
+            log.info("Search index loaded {} warriors in {} ms",
+                    index.size(), System.currentTimeMillis() - started);
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Search index build failed, searches keep using the database", e);
+            return false;
+        }
+    }
+
+    /**
+     * Indexes the warriors whose ids were minted since the last pass, minus the
+     * overlap; the ones this replica (or an earlier pass) already indexed are skipped
+     */
+    private void catchUp() {
+        long now = System.currentTimeMillis();
+        long overlap = properties.getCatchUpOverlap().toMillis();
+
+        // The upper bound keeps legacy random (v4) ids, spread over the whole range, out
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(CATCH_UP_QUERY,
+                new WarriorRowCollector(),
+                UuidV7.lowerBound(caughtUpTo - overlap), UuidV7.lowerBound(now + overlap)));
+
+        caughtUpTo = now;
+        recent.removeIf(id -> UuidV7.timestampOf(id) < now - overlap);
+    }
+
+    private void addOnce(UUID id, String name, List<String> skills) {
+        if (id.version() == 7) {
+            long cutoff = caughtUpTo - properties.getCatchUpOverlap().toMillis();
+            if (UuidV7.timestampOf(id) >= cutoff && !recent.add(id)) {
+                return;
+            }
+        }
+        index.add(id, name, skills);
+    }
+
+    /**
+     * Folds the (id, name, skill) rows of the load and catch-up queries back into
+     * one index entry per warrior
+     */
+    private final class WarriorRowCollector implements ResultSetExtractor<Void> {
+        private UUID id;
+        private String name;
+        private final List<String> skills = new ArrayList<>();
+
+        @Override
+        public Void extractData(ResultSet rs) throws SQLException {
+            while (rs.next()) {
+                int skillId = rs.getInt("skill_id");
+                accept(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("name"),
+                        rs.wasNull() ? null : skillDictionary.nameOf(skillId));
+            }
+            flush();
+            return null;
+        }
+
+        void accept(UUID rowId, String rowName, String skill) {
+            if (!rowId.equals(id)) {
+                flush();
+                id = rowId;
+                name = rowName;
+            }
+            if (skill != null) {
+                skills.add(skill);
+            }
+        }
+
+        void flush() {
+            if (id != null) {
+                addOnce(id, name, skills);
+                skills.clear();
+                id = null;
+            }
+        }
+    }
+}
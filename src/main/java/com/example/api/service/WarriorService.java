@@ -1,98 +1,202 @@
 package com.example.api.service;
 
+import com.example.api.cache.Coalescing;
+import com.example.api.cache.LookupCache;
+import com.example.api.cache.SearchResultCache;
+import com.example.api.cache.WarriorJsonCodec;
+import com.example.api.cache.WarriorSearchCache;
+import com.example.api.config.JdbcAdmission;
 import com.example.api.dto.CountResponse;
 import com.example.api.dto.CreateWarriorRequest;
 import com.example.api.dto.WarriorResponse;
 import com.example.api.dto.WarriorResponseWithoutId;
-import com.example.api.entity.Warrior;
 import com.example.api.exception.InvalidSearchTermException;
 import com.example.api.exception.WarriorNotFoundException;
-import com.example.api.repository.WarriorRepository;
-import jakarta.persistence.EntityManager;
+import com.example.api.ingest.WarriorWriter;
+import com.example.api.repository.WarriorCounterRepository;
+import com.example.api.repository.WarriorReadRepository;
+import com.example.api.repository.WarriorSink;
+import com.example.api.search.SearchIndex;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WarriorService {
     
-    private final WarriorRepository warriorRepository;
-    private final EntityManager entityManager;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    
+    private final WarriorReadRepository readRepository;
+    private final WarriorCounterRepository counterRepository;
+    private final WarriorWriter warriorWriter;
+    private final WarriorJsonCodec jsonCodec;
+    // Disabled features are no-op implementations (see DisabledFeatureConfig)
+    private final SearchIndex searchIndex;
+    private final LookupCache lookupCache;
+    private final SearchResultCache searchCache;
+    private final Coalescing coalescing;
+    private final JdbcAdmission jdbcAdmission;
     
     /**
-     * Creates a new warrior and returns the created entity with generated UUID
-     * CRITICAL: Forces immediate flush+commit before returning 201 to client
+     * Creates a new warrior and returns it with its generated UUID.
+     * Only returns once the warrior is committed (see {@link WarriorWriter}).
      */
-    @Transactional
     public WarriorResponse createWarrior(CreateWarriorRequest request) {
-        Warrior warrior = Warrior.builder()
-                .name(request.getName())
-                .dob(request.getDob())
-                .fightSkills(request.getFightSkills())
-                .build();
-        
-        Warrior savedWarrior = warriorRepository.saveAndFlush(warrior);
-        entityManager.clear();
-        
-        return mapToResponse(savedWarrior);
+        WarriorResponse created = warriorWriter.usesCallerConnection()
+                ? jdbcAdmission.call(() -> warriorWriter.write(request))
+                : warriorWriter.write(request);
+        if (!warriorWriter.acknowledgesBeforeCommit()) {
+            afterCreate(created);
+        }
+        return created;
+    }
+
+    /**
+     * Warriors acknowledged before their commit (WAL ingest) only become visible
+     * to the index and caches once they are in the database
+     */
+    @PostConstruct
+    void listenForLateCommits() {
+        warriorWriter.onCommitted(committed -> committed.forEach(this::afterCreate));
+    }
+
+    /**
+     * Makes a committed warrior visible to the in-process index and caches; for
+     * writes that bypass createWarrior, such as bulk ingest
+     */
+    public void afterCreate(WarriorResponse created) {
+        searchIndex.add(created);
+        lookupCache.put(created.getId(), jsonCodec.encode(created));
+        searchCache.onCreated(created);
+        coalescing.onCreated(created);
     }
     
     /**
-     * Retrieves a warrior by ID
+     * Retrieves a warrior by ID as its response JSON; cache hits are returned
+     * without building or serializing a response object
      */
-    @Transactional(readOnly = true)
-    public WarriorResponse getWarriorById(UUID id) {
-        Warrior warrior = warriorRepository.findById(id)
+    public byte[] getWarriorJsonById(UUID id) {
+        Optional<byte[]> cached = lookupCache.getJson(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        return jsonOf(loadWarrior(id));
+    }
+
+    private WarriorResponse loadWarrior(UUID id) {
+        return coalescing.lookup(id, () -> findWarrior(id))
                 .orElseThrow(() -> new WarriorNotFoundException(id));
-        
-        return mapToResponse(warrior);
     }
     
     /**
      * Searches warriors by name or fight skills
      */
-    @Transactional(readOnly = true)
     public List<WarriorResponse> searchWarriors(String term) {
+        String normalizedTerm = normalizeSearchTerm(term);
+        String key = WarriorSearchCache.keyOf(normalizedTerm);
+        Optional<List<WarriorResponse>> cached = searchCache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return coalescing.search(key, () -> searchAndCache(key, normalizedTerm));
+    }
+
+    /**
+     * Searches warriors and returns the JSON array of the matches, assembled from
+     * each warrior's cached JSON; matches not yet cached are encoded and cached
+     */
+    public byte[] searchWarriorsJson(String term) {
+        List<WarriorResponse> found = searchWarriors(term);
+        List<byte[]> elements = new ArrayList<>(found.size());
+        for (WarriorResponse warrior : found) {
+            elements.add(lookupCache.getJson(warrior.getId())
+                    .orElseGet(() -> jsonOf(warrior)));
+        }
+        return WarriorJsonCodec.array(elements);
+    }
+
+    /**
+     * Searches warriors and hands each match to the sink as it comes off the cursor.
+     * Cache hits are replayed; misses are neither coalesced nor cached, since the
+     * result is never materialized
+     */
+    public void streamSearch(String term, WarriorSink sink) {
+        String normalizedTerm = normalizeSearchTerm(term);
+        Optional<List<WarriorResponse>> cached = searchCache.get(WarriorSearchCache.keyOf(normalizedTerm));
+        if (cached.isPresent()) {
+            for (WarriorResponse warrior : cached.get()) {
+                sink.warrior(warrior.getId(), warrior.getName(), warrior.getDob());
+                warrior.getFightSkills().forEach(sink::fightSkill);
+            }
+            return;
+        }
+
+        jdbcAdmission.call(() -> {
+            Optional<List<UUID>> hits = searchIndex.search(normalizedTerm, MAX_SEARCH_RESULTS);
+            if (hits.isPresent()) {
+                readRepository.streamByIds(hits.get(), sink);
+            } else {
+                readRepository.streamSearch(
+                        WarriorReadRepository.containsPattern(normalizedTerm), MAX_SEARCH_RESULTS, sink);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Validates and trims a search term
+     */
+    public String normalizeSearchTerm(String term) {
         if (term == null || term.trim().isEmpty()) {
-            throw new InvalidSearchTermException("Query parameter 't' is required");
+            throw new InvalidSearchTermException();
         }
+        return term.trim();
+    }
 
-        List<Warrior> warriors = warriorRepository.searchByNameOrSkills(
-            term.trim(), PageRequest.of(0, 50));
-        
-        return warriors.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    private List<WarriorResponse> searchAndCache(String key, String normalizedTerm) {
+        long stamp = searchCache.stamp();
+        List<WarriorResponse> found = findMatches(normalizedTerm);
+        searchCache.put(key, stamp, found, found.size() >= MAX_SEARCH_RESULTS);
+        return found;
     }
-    
+
     /**
-     * Returns the total count of warriors
+     * Encodes the warrior and caches its JSON for later lookups
      */
-    @Transactional(readOnly = true)
-    public CountResponse getWarriorCount() {
-        long count = warriorRepository.count();
-        return CountResponse.builder()
-                .count(count)
-                .build();
+    private byte[] jsonOf(WarriorResponse warrior) {
+        byte[] json = jsonCodec.encode(warrior);
+        lookupCache.put(warrior.getId(), json);
+        return json;
+    }
+
+    private List<WarriorResponse> findMatches(String normalizedTerm) {
+        return jdbcAdmission.call(() -> searchIndex
+                .search(normalizedTerm, MAX_SEARCH_RESULTS)
+                .map(readRepository::findAllByIds)
+                .orElseGet(() -> readRepository.search(
+                        WarriorReadRepository.containsPattern(normalizedTerm), MAX_SEARCH_RESULTS)));
+    }
+
+    private Optional<WarriorResponse> findWarrior(UUID id) {
+        return jdbcAdmission.call(() -> readRepository.findById(id));
     }
     
     /**
-     * Maps Warrior entity to WarriorResponse DTO
+     * Returns the total count of warriors from the maintained counter
      */
-    private WarriorResponse mapToResponse(Warrior warrior) {
-        return WarriorResponse.builder()
-                .id(warrior.getId())
-                .name(warrior.getName())
-                .dob(warrior.getDob())
-                .fightSkills(warrior.getFightSkills())
+    public CountResponse getWarriorCount() {
+        long count = jdbcAdmission.call(counterRepository::count);
+        return CountResponse.builder()
+                .count(count)
                 .build();
     }
 }
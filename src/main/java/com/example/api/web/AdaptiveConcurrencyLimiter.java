@@ -0,0 +1,82 @@
+package com.example.api.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD concurrency limit for one endpoint class.
+ *
+ * A request is admitted only while fewer than limit requests are in flight.
+ * Every request that completes within the latency target while the limit is
+ * actually being used grows the limit by 1/limit, roughly +1 per limit's
+ * worth of requests. A slow or failed request multiplies it by the backoff
+ * ratio, at most once per latency target so that one congested window does
+ * not collapse it to the minimum. The limit therefore settles just below the
+ * concurrency at which the database starts to queue.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties.Limit settings, double backoffRatio) {
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.latencyTargetNanos = settings.getLatencyTarget().toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, settings.getInitialLimit()));
+        this.lastDecreaseNanos = System.nanoTime() - latencyTargetNanos;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Must be called exactly once for every successful tryAcquire
+     */
+    public void release(long latencyNanos, boolean failed) {
+        release(latencyNanos, failed, System.nanoTime());
+    }
+
+    void release(long latencyNanos, boolean failed, long nowNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+
+        lock.lock();
+        try {
+            if (failed || latencyNanos > latencyTargetNanos) {
+                if (nowNanos - lastDecreaseNanos >= latencyTargetNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = nowNanos;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
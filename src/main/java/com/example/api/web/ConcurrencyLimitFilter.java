@@ -0,0 +1,130 @@
+package com.example.api.web;
+
+import com.example.api.exception.StaticErrorBody;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits warrior API requests through the adaptive limit of their endpoint
+ * class and answers the rest with 503 + Retry-After straight away, before
+ * they take a thread from the controller or a connection from the pool.
+ *
+ * Limits, in-flight counts and rejections are published per endpoint as
+ * warrior.concurrency.limit, warrior.concurrency.inflight and
+ * warrior.concurrency.rejections.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        for (EndpointClass endpoint : EndpointClass.values()) {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    properties.limitFor(endpoint), properties.getBackoffRatio());
+            limiters.put(endpoint, limiter);
+
+            Gauge.builder("warrior.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+            Gauge.builder("warrior.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests currently admitted")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry);
+            rejections.put(endpoint, Counter.builder("warrior.concurrency.rejections")
+                    .description("Requests shed with 503 because the limit was reached")
+                    .tag("endpoint", endpoint.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpoint = EndpointClass.of(request);
+        if (endpoint == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        if (!limiter.tryAcquire()) {
+            rejections.get(endpoint).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            StaticErrorBody.TOO_MANY_CONCURRENT_REQUESTS.write(response, request.getRequestURI());
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, started));
+            } else {
+                limiter.release(System.nanoTime() - started, failed);
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of a request that went async once its response is done
+     */
+    private static final class ReleaseOnCompletion implements AsyncListener {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long started;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnCompletion(AdaptiveConcurrencyLimiter limiter, long started) {
+            this.limiter = limiter;
+            this.started = started;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            ServletResponse response = event.getSuppliedResponse();
+            boolean failed = response instanceof HttpServletResponse http && http.getStatus() >= 500;
+            release(failed);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - started, failed);
+            }
+        }
+    }
+}
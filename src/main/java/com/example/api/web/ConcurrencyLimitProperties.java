@@ -0,0 +1,47 @@
+package com.example.api.web;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Adaptive per-endpoint concurrency limits (warrior.concurrency-limit.*)
+ */
+@Data
+@ConfigurationProperties(prefix = "warrior.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * Shed requests above the adaptive limit with 503 instead of queueing them
+     */
+    private boolean enabled = true;
+
+    /**
+     * Multiplier applied to the limit when a request is slow or fails
+     */
+    private double backoffRatio = 0.9;
+
+    private Map<EndpointClass, Limit> endpoints = new EnumMap<>(EndpointClass.class);
+
+    public Limit limitFor(EndpointClass endpoint) {
+        return endpoints.getOrDefault(endpoint, new Limit());
+    }
+
+    @Data
+    public static class Limit {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 2;
+
+        private int maxLimit = 200;
+
+        /**
+         * Requests slower than this count as congestion and shrink the limit
+         */
+        private Duration latencyTarget = Duration.ofMillis(250);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.api.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Workload classes of the warrior API, used to give each its own limits
+ */
+public enum EndpointClass {
+    CREATE,
+    LOOKUP,
+    SEARCH,
+    COUNT,
+    BULK,
+    EXPORT;
+
+    /**
+     * Classifies a request by method and path; null for anything outside the warrior API
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+
+        if ("/warrior".equals(path)) {
+            if ("POST".equals(method)) {
+                return CREATE;
+            }
+            return "GET".equals(method) ? SEARCH : null;
+        }
+        if ("/warriors/bulk".equals(path)) {
+            return "POST".equals(method) ? BULK : null;
+        }
+        if (!"GET".equals(method)) {
+            return null;
+        }
+        if (path.startsWith("/warrior/")) {
+            return LOOKUP;
+        }
+        if ("/warriors/export".equals(path)) {
+            return EXPORT;
+        }
+        return "/counting-warriors".equals(path) ? COUNT : null;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
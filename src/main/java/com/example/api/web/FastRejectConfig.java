@@ -0,0 +1,23 @@
+package com.example.api.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "warrior.fast-reject", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FastRejectConfig {
+
+    @Bean
+    public FilterRegistrationBean<FastRejectFilter> fastRejectFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FastRejectFilter> registration =
+                new FilterRegistrationBean<>(new FastRejectFilter(meterRegistry));
+        // Ahead of the concurrency limiter: invalid requests should neither take
+        // a permit nor feed it latency samples
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.api.web;
+
+import com.example.api.exception.StaticErrorBody;
+import com.example.shared.validation.WarriorPayloadValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers requests that can only ever fail validation before MVC dispatch:
+ * GET /warrior without a non-blank t, and POST /warrior without a body. They
+ * get the same 400 body the exception handler would produce, pre-encoded,
+ * without a handler lookup, an exception or a bulkhead hop.
+ *
+ * Counted as warrior.fast.rejections, tagged by reason.
+ */
+public class FastRejectFilter extends OncePerRequestFilter {
+
+    private final Counter missingTerm;
+    private final Counter emptyBody;
+
+    public FastRejectFilter(MeterRegistry meterRegistry) {
+        this.missingTerm = rejections(meterRegistry, "missing-term");
+        this.emptyBody = rejections(meterRegistry, "empty-body");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpoint = EndpointClass.of(request);
+        // Same trim() semantics as WarriorService.normalizeSearchTerm, so only terms it would reject stop here
+        if (endpoint == EndpointClass.SEARCH && WarriorPayloadValidator.isBlank(request.getParameter("t"))) {
+            missingTerm.increment();
+            StaticErrorBody.MISSING_SEARCH_TERM.write(response, request.getRequestURI());
+            return;
+        }
+        if (endpoint == EndpointClass.CREATE && request.getContentLengthLong() == 0) {
+            emptyBody.increment();
+            StaticErrorBody.MALFORMED_JSON.write(response, request.getRequestURI());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("warrior.fast.rejections")
+                .description("Invalid requests answered before MVC dispatch")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
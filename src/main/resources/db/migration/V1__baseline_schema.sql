@@ -0,0 +1,20 @@
+-- Warriors schema as previously generated by Hibernate (ddl-auto: update)
+
+CREATE TABLE IF NOT EXISTS warriors (
+    id UUID PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    dob DATE NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_warrior_name
+    ON warriors(name);
+
+CREATE TABLE IF NOT EXISTS warrior_fight_skills (
+    warrior_id UUID NOT NULL,
+    skill VARCHAR(255),
+
+    CONSTRAINT fk_warrior_fight_skills_warrior
+        FOREIGN KEY (warrior_id) REFERENCES warriors(id)
+);
@@ -0,0 +1,20 @@
+-- Substring search support for GET /warrior?t=
+-- LOWER(col) LIKE '%term%' can only use a trigram GIN index, never the b-tree
+--
+-- Built CONCURRENTLY so writes to a populated table carry on during the build;
+-- CONCURRENTLY cannot run in a transaction, hence executeInTransaction=false in
+-- V2__trigram_search_indexes.sql.conf. A build that fails leaves an INVALID
+-- index behind that IF NOT EXISTS would keep: drop it before repairing and
+-- re-running the migration.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_warrior_name_trgm
+    ON warriors USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_warrior_fight_skills_skill_trgm
+    ON warrior_fight_skills USING gin (lower(skill) gin_trgm_ops);
+
+-- Hibernate never indexed the collection's foreign key; every skill lookup by warrior scanned the table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_warrior_fight_skills_warrior
+    ON warrior_fight_skills(warrior_id);
@@ -0,0 +1,40 @@
+-- Normalized fight skills: each distinct skill is stored once in skills and
+-- warriors reference it by a small integer id instead of repeating the text.
+-- warrior_skills keeps the submitted order in position.
+
+CREATE TABLE skills (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+
+    CONSTRAINT uk_skills_name UNIQUE (name)
+);
+
+CREATE TABLE warrior_skills (
+    warrior_id UUID NOT NULL,
+    position INT NOT NULL,
+    skill_id INT NOT NULL,
+
+    CONSTRAINT pk_warrior_skills PRIMARY KEY (warrior_id, position),
+    CONSTRAINT fk_warrior_skills_warrior
+        FOREIGN KEY (warrior_id) REFERENCES warriors(id),
+    CONSTRAINT fk_warrior_skills_skill
+        FOREIGN KEY (skill_id) REFERENCES skills(id)
+);
+
+-- Skill-term search resolves matching skill ids first, then walks this index
+CREATE INDEX idx_warrior_skills_skill
+    ON warrior_skills(skill_id, warrior_id);
+
+INSERT INTO skills (name)
+SELECT DISTINCT skill
+FROM warrior_fight_skills
+WHERE skill IS NOT NULL;
+
+INSERT INTO warrior_skills (warrior_id, position, skill_id)
+SELECT s.warrior_id,
+       (row_number() OVER (PARTITION BY s.warrior_id ORDER BY s.ctid) - 1)::int,
+       k.id
+FROM warrior_fight_skills s
+JOIN skills k ON k.name = s.skill;
+
+DROP TABLE warrior_fight_skills;
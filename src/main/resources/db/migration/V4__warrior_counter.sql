@@ -0,0 +1,63 @@
+-- Exact warrior count for GET /counting-warriors without scanning warriors.
+-- The count is spread over a fixed set of slots so concurrent writers rarely
+-- queue on the same row lock; readers sum the slots, which is a constant-size
+-- read. Triggers keep it in step with every write path and every replica,
+-- inside the writing transaction.
+
+-- Writers that commit between the seed count and the triggers would be missed.
+-- Blocking them until this migration commits keeps seed and triggers exact;
+-- readers are not blocked.
+LOCK TABLE warriors IN SHARE ROW EXCLUSIVE MODE;
+
+CREATE TABLE warrior_counter (
+    slot SMALLINT PRIMARY KEY,
+    count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO warrior_counter (slot, count)
+SELECT slot, 0 FROM generate_series(0, 15) AS slot;
+
+-- Statement-level: one counter update per multi-row INSERT, not per row
+CREATE FUNCTION warrior_counter_on_insert() RETURNS trigger AS $$
+BEGIN
+    UPDATE warrior_counter
+    SET count = count + (SELECT count(*) FROM inserted_warriors)
+    WHERE slot = floor(random() * 16)::smallint;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION warrior_counter_on_delete() RETURNS trigger AS $$
+BEGIN
+    UPDATE warrior_counter
+    SET count = count - (SELECT count(*) FROM deleted_warriors)
+    WHERE slot = floor(random() * 16)::smallint;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION warrior_counter_on_truncate() RETURNS trigger AS $$
+BEGIN
+    UPDATE warrior_counter SET count = 0;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_warrior_counter_insert
+    AFTER INSERT ON warriors
+    REFERENCING NEW TABLE AS inserted_warriors
+    FOR EACH STATEMENT EXECUTE FUNCTION warrior_counter_on_insert();
+
+CREATE TRIGGER trg_warrior_counter_delete
+    AFTER DELETE ON warriors
+    REFERENCING OLD TABLE AS deleted_warriors
+    FOR EACH STATEMENT EXECUTE FUNCTION warrior_counter_on_delete();
+
+CREATE TRIGGER trg_warrior_counter_truncate
+    AFTER TRUNCATE ON warriors
+    FOR EACH STATEMENT EXECUTE FUNCTION warrior_counter_on_truncate();
+
+-- Seeded last, under the lock, so no write falls between the count and the triggers
+UPDATE warrior_counter
+SET count = (SELECT count(*) FROM warriors)
+WHERE slot = 0;
@@ -0,0 +1,119 @@
+package com.example.api.bulkhead;
+
+import com.example.api.config.ThreadingProperties;
+import com.example.api.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void submit_InVirtualMode_ShouldRunOnCallingThreadInsideBulkhead() throws Exception {
+        // Given
+        Bulkheads bulkheads = virtualBulkheads(1, 0);
+        Thread caller = Thread.currentThread();
+
+        // When
+        CompletableFuture<Boolean> result = bulkheads.submit(Bulkhead.SEARCH,
+                () -> Thread.currentThread() == caller && Bulkheads.current() == Bulkhead.SEARCH);
+
+        // Then
+        assertThat(result.get()).isTrue();
+        assertThat(Bulkheads.current()).isNull();
+    }
+
+    @Test
+    void submit_InVirtualMode_WhenSlotsAndQueueAreFull_ShouldRejectWith503() throws Exception {
+        // Given
+        Bulkheads bulkheads = virtualBulkheads(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<?> holder = CompletableFuture.runAsync(() -> bulkheads.submit(Bulkhead.SEARCH, () -> {
+            await(release);
+            return null;
+        }), callers);
+        CompletableFuture<?> waiter = CompletableFuture.runAsync(() -> bulkheads.submit(Bulkhead.SEARCH, () -> null), callers);
+        waitFor(() -> queueDepth() == 1);
+
+        // When & Then
+        assertThatThrownBy(() -> bulkheads.submit(Bulkhead.SEARCH, () -> null))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("warrior.bulkhead.rejections").tag("bulkhead", "search").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        waiter.get(5, TimeUnit.SECONDS);
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    void enter_InlineBulkheadInPlatformMode_ShouldBoundCallersOnTheirOwnThreads() {
+        // Given
+        BulkheadProperties properties = new BulkheadProperties();
+        BulkheadProperties.Settings settings = new BulkheadProperties.Settings();
+        settings.setThreads(1);
+        settings.setQueueCapacity(0);
+        properties.getWorkloads().put(Bulkhead.BULK, settings);
+        Bulkheads bulkheads = new Bulkheads(properties, new ThreadingProperties(), meterRegistry);
+
+        // When & Then
+        try (Bulkheads.Admission admission = bulkheads.enter(Bulkhead.BULK)) {
+            assertThat(Bulkheads.current()).isEqualTo(Bulkhead.BULK);
+            assertThatThrownBy(() -> bulkheads.enter(Bulkhead.BULK))
+                    .isInstanceOf(ServiceOverloadedException.class);
+        }
+        assertThat(Bulkheads.current()).isNull();
+        try (Bulkheads.Admission admission = bulkheads.enter(Bulkhead.BULK)) {
+            assertThat(Bulkheads.current()).isEqualTo(Bulkhead.BULK);
+        }
+    }
+
+    private Bulkheads virtualBulkheads(int threads, int queueCapacity) {
+        BulkheadProperties properties = new BulkheadProperties();
+        BulkheadProperties.Settings settings = new BulkheadProperties.Settings();
+        settings.setThreads(threads);
+        settings.setQueueCapacity(queueCapacity);
+        properties.getWorkloads().put(Bulkhead.SEARCH, settings);
+        ThreadingProperties threading = new ThreadingProperties();
+        threading.setMode("virtual");
+        return new Bulkheads(properties, threading, meterRegistry);
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("warrior.bulkhead.queue.depth").tag("bulkhead", "search").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer<String, String> coalescer;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer<>("search", meterRegistry);
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void execute_WithConcurrentIdenticalKeys_ShouldRunCallOnce() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                coalescer.execute("achi", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "result";
+                }), callers);
+        waitFor(() -> calls.get() == 1);
+
+        // When
+        List<CompletableFuture<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(CompletableFuture.supplyAsync(() ->
+                    coalescer.execute("achi", () -> {
+                        calls.incrementAndGet();
+                        return "duplicate";
+                    }), callers));
+        }
+        waitFor(() -> count("follower") == 3);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        for (CompletableFuture<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("leader")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_AfterCallCompletes_ShouldRunAgain() {
+        // When
+        coalescer.execute("achi", () -> "first");
+        String second = coalescer.execute("achi", () -> "second");
+
+        // Then
+        assertThat(second).isEqualTo("second");
+        assertThat(count("leader")).isEqualTo(2);
+    }
+
+    @Test
+    void execute_WhenCallFails_ShouldRethrowOriginalException() {
+        // When & Then
+        assertThatThrownBy(() -> coalescer.execute("achi", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(coalescer.execute("achi", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void execute_AfterKeyIsForgotten_ShouldNotJoinEarlierFlight() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> stale = CompletableFuture.supplyAsync(() ->
+                coalescer.execute("achi", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "before create";
+                }), callers);
+        waitFor(() -> calls.get() == 1);
+
+        // When
+        coalescer.forget("achi");
+        String fresh = coalescer.execute("achi", () -> {
+            calls.incrementAndGet();
+            return "after create";
+        });
+        release.countDown();
+
+        // Then
+        assertThat(fresh).isEqualTo("after create");
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before create");
+        assertThat(count("leader")).isEqualTo(2);
+        assertThat(count("follower")).isZero();
+    }
+
+    @Test
+    void forgetIf_ShouldOnlyDetachMatchingFlights() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        List<CompletableFuture<String>> leaders = new ArrayList<>();
+        for (String key : List.of("achi", "kun")) {
+            leaders.add(CompletableFuture.supplyAsync(() ->
+                    coalescer.execute(key, () -> {
+                        calls.incrementAndGet();
+                        await(release);
+                        return key;
+                    }), callers));
+        }
+        waitFor(() -> calls.get() == 2);
+
+        // When
+        coalescer.forgetIf(key -> key.startsWith("a"));
+        String forgotten = coalescer.execute("achi", () -> "fresh");
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                coalescer.execute("kun", () -> "duplicate"), callers);
+        waitFor(() -> count("follower") == 1);
+        release.countDown();
+
+        // Then
+        assertThat(forgotten).isEqualTo("fresh");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("kun");
+        for (CompletableFuture<String> leader : leaders) {
+            leader.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.get("warrior.coalescing.calls").tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
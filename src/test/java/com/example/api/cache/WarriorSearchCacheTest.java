@@ -0,0 +1,106 @@
+package com.example.api.cache;
+
+import com.example.api.dto.WarriorResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarriorSearchCacheTest {
+
+    private WarriorSearchCache cache;
+    private WarriorResponse achilles;
+    private WarriorResponse hector;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WarriorSearchCache(new CacheProperties(), new SimpleMeterRegistry());
+        achilles = warrior("Achilles", "Swordsmanship", "Shield Combat");
+        hector = warrior("Hector", "Spear Fighting", "Archery");
+    }
+
+    @Test
+    void get_ShouldReturnCachedResultIncludingEmptyOnes() {
+        // Given
+        cache.put("achi", cache.stamp(), List.of(achilles), false);
+        cache.put("zeus", cache.stamp(), List.of(), false);
+
+        // When & Then
+        assertThat(cache.get("achi")).hasValueSatisfying(found -> assertThat(found).containsExactly(achilles));
+        assertThat(cache.get("zeus")).hasValueSatisfying(found -> assertThat(found).isEmpty());
+        assertThat(cache.get("hect")).isEmpty();
+    }
+
+    @Test
+    void keyOf_ShouldIgnoreCase() {
+        // When & Then
+        assertThat(WarriorSearchCache.keyOf("AcHi")).isEqualTo("achi");
+    }
+
+    @Test
+    void onCreated_ShouldOnlyInvalidateTermsTheWarriorMatches() {
+        // Given
+        cache.put("spear", cache.stamp(), List.of(hector), false);
+        cache.put("sword", cache.stamp(), List.of(achilles), false);
+
+        // When
+        cache.onCreated(warrior("Ajax", "Spear Fighting"));
+
+        // Then
+        assertThat(cache.get("spear")).isEmpty();
+        assertThat(cache.get("sword")).isPresent();
+    }
+
+    @Test
+    void onCreated_ShouldKeepResultsThatAlreadyHitTheLimit() {
+        // Given
+        cache.put("e", cache.stamp(), List.of(achilles, hector), true);
+
+        // When
+        cache.onCreated(warrior("Perseus", "Archery"));
+
+        // Then
+        assertThat(cache.get("e")).isPresent();
+    }
+
+    @Test
+    void put_ShouldDropResultWhenMatchingWarriorWasCreatedDuringQuery() {
+        // Given
+        long stamp = cache.stamp();
+        cache.onCreated(warrior("Achilles II", "Archery"));
+
+        // When
+        cache.put("achi", stamp, List.of(achilles), false);
+
+        // Then
+        assertThat(cache.get("achi")).isEmpty();
+    }
+
+    @Test
+    void put_ShouldKeepResultWhenUnrelatedWarriorWasCreatedDuringQuery() {
+        // Given
+        long stamp = cache.stamp();
+        cache.onCreated(warrior("Ajax", "Spear Fighting"));
+
+        // When
+        cache.put("achi", stamp, List.of(achilles), false);
+
+        // Then
+        assertThat(cache.get("achi")).isPresent();
+    }
+
+    private static WarriorResponse warrior(String name, String... skills) {
+        return WarriorResponse.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .dob(LocalDate.of(1990, 1, 1))
+                .fightSkills(Arrays.asList(skills))
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.api.config;
+
+import com.example.api.cache.Coalescing;
+import com.example.api.cache.LookupCache;
+import com.example.api.cache.SearchResultCache;
+import com.example.api.search.SearchIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisabledFeatureConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DisabledFeatureConfig.class);
+
+    @Test
+    void byDefault_ShouldOnlyStandInForFeaturesThatAreOffByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(SearchIndex.class)).isSameAs(SearchIndex.NONE);
+            assertThat(context.getBean(JdbcAdmission.class)).isSameAs(JdbcAdmission.UNLIMITED);
+            assertThat(context).doesNotHaveBean(LookupCache.class);
+            assertThat(context).doesNotHaveBean(SearchResultCache.class);
+            assertThat(context).doesNotHaveBean(Coalescing.class);
+        });
+    }
+
+    @Test
+    void whenFeaturesAreDisabled_ShouldProvideNoOpImplementations() {
+        contextRunner.withPropertyValues(
+                        "warrior.cache.lookup.enabled=false",
+                        "warrior.cache.search.enabled=false",
+                        "warrior.coalescing.enabled=false")
+                .run(context -> {
+                    assertThat(context.getBean(LookupCache.class)).isSameAs(LookupCache.NONE);
+                    assertThat(context.getBean(SearchResultCache.class)).isSameAs(SearchResultCache.NONE);
+                    assertThat(context.getBean(Coalescing.class)).isSameAs(Coalescing.NONE);
+                });
+    }
+
+    @Test
+    void whenFeaturesAreEnabled_ShouldLeaveThemToTheRealComponents() {
+        contextRunner.withPropertyValues(
+                        "warrior.search.index.enabled=true",
+                        "warrior.threads.jdbc-governor.enabled=true")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(SearchIndex.class);
+                    assertThat(context).doesNotHaveBean(JdbcAdmission.class);
+                });
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.api.config;
+
+import com.example.api.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcConcurrencyGovernorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService holders = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        holders.shutdownNow();
+    }
+
+    @Test
+    void call_ShouldReturnResultAndReleasePermit() {
+        // Given
+        JdbcConcurrencyGovernor governor = governor(1, Duration.ofMillis(100));
+
+        // When
+        String result = governor.call(() -> "row");
+
+        // Then
+        assertThat(result).isEqualTo("row");
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void call_WhenWorkThrows_ShouldReleasePermit() {
+        // Given
+        JdbcConcurrencyGovernor governor = governor(1, Duration.ofMillis(100));
+
+        // When
+        assertThatThrownBy(() -> governor.call(() -> {
+            throw new IllegalStateException("connection reset");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(availablePermits()).isEqualTo(1);
+        assertThat(governor.call(() -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void call_WhenNoPermitFreesUpInTime_ShouldRejectWithOverload() throws Exception {
+        // Given
+        JdbcConcurrencyGovernor governor = governor(1, Duration.ofMillis(50));
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = holders.submit(() -> governor.call(() -> {
+            held.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> governor.call(() -> "late"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("warrior.jdbc.governor.rejections").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void call_WhenPermitFreesUpWhileWaiting_ShouldRunCall() throws Exception {
+        // Given
+        JdbcConcurrencyGovernor governor = governor(1, Duration.ofSeconds(5));
+        CountDownLatch held = new CountDownLatch(1);
+        Future<?> holder = holders.submit(() -> governor.call(() -> {
+            held.countDown();
+            sleep(50);
+            return null;
+        }));
+        assertThat(held.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        String result = governor.call(() -> "admitted");
+
+        // Then
+        assertThat(result).isEqualTo("admitted");
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("warrior.jdbc.governor.rejections").counter().count()).isZero();
+    }
+
+    private JdbcConcurrencyGovernor governor(int permits, Duration acquireTimeout) {
+        ThreadingProperties properties = new ThreadingProperties();
+        properties.getJdbcGovernor().setEnabled(true);
+        properties.getJdbcGovernor().setPermits(permits);
+        properties.getJdbcGovernor().setAcquireTimeout(acquireTimeout);
+        return new JdbcConcurrencyGovernor(properties, meterRegistry);
+    }
+
+    private double availablePermits() {
+        return meterRegistry.get("warrior.jdbc.governor.available").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.api.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class VirtualThreadConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadConfig.class);
+
+    @Test
+    void whenModeIsVirtual_ShouldCustomizeTomcatExecutor() {
+        contextRunner.withPropertyValues("warrior.threads.mode=virtual")
+                .run(context -> assertThat(context).hasSingleBean(TomcatProtocolHandlerCustomizer.class));
+    }
+
+    @Test
+    void whenModeIsPlatform_ShouldKeepTomcatWorkerPool() {
+        contextRunner.withPropertyValues("warrior.threads.mode=platform")
+                .run(context -> assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+        contextRunner
+                .run(context -> assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void customizer_ShouldRunRequestsOnVirtualThreads() throws Exception {
+        // Given
+        TomcatProtocolHandlerCustomizer<ProtocolHandler> customizer =
+                (TomcatProtocolHandlerCustomizer<ProtocolHandler>) new VirtualThreadConfig().virtualThreadExecutorCustomizer();
+        ProtocolHandler protocolHandler = mock(ProtocolHandler.class);
+
+        // When
+        customizer.customize(protocolHandler);
+
+        // Then
+        ArgumentCaptor<Executor> executor = ArgumentCaptor.forClass(Executor.class);
+        verify(protocolHandler).setExecutor(executor.capture());
+        CompletableFuture<Boolean> virtual = new CompletableFuture<>();
+        executor.getValue().execute(() -> virtual.complete(Thread.currentThread().isVirtual()));
+        assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
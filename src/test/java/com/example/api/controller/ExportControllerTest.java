@@ -0,0 +1,37 @@
+package com.example.api.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportControllerTest {
+
+    @Test
+    void acceptsGzip_WhenGzipIsListed_ShouldAccept() {
+        assertThat(ExportController.acceptsGzip("gzip")).isTrue();
+        assertThat(ExportController.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ExportController.acceptsGzip("GZIP;q=0.5")).isTrue();
+        assertThat(ExportController.acceptsGzip("x-gzip")).isTrue();
+    }
+
+    @Test
+    void acceptsGzip_WhenGzipHasZeroQuality_ShouldRefuse() {
+        assertThat(ExportController.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ExportController.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(ExportController.acceptsGzip("gzip;q=0, *")).isFalse();
+    }
+
+    @Test
+    void acceptsGzip_WhenOnlyWildcardIsListed_ShouldFollowItsQuality() {
+        assertThat(ExportController.acceptsGzip("*")).isTrue();
+        assertThat(ExportController.acceptsGzip("br;q=1, *;q=0.1")).isTrue();
+        assertThat(ExportController.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void acceptsGzip_WhenGzipIsMissing_ShouldRefuse() {
+        assertThat(ExportController.acceptsGzip(null)).isFalse();
+        assertThat(ExportController.acceptsGzip("deflate, br")).isFalse();
+        assertThat(ExportController.acceptsGzip("identity")).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.api.controller;
+
+import com.example.api.bulkhead.BulkheadProperties;
+import com.example.api.bulkhead.Bulkheads;
+import com.example.api.config.ThreadingProperties;
+import com.example.api.exception.ServiceOverloadedException;
+import com.example.api.repository.WarriorSink;
+import com.example.api.service.WarriorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingSearchControllerTest {
+
+    @Mock
+    private WarriorService warriorService;
+
+    private StreamingSearchController controller;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties bulkheadProperties = new BulkheadProperties();
+        bulkheadProperties.setEnabled(false);
+        controller = new StreamingSearchController(warriorService,
+                new Bulkheads(bulkheadProperties, new ThreadingProperties(), new SimpleMeterRegistry()), new ObjectMapper());
+        when(warriorService.normalizeSearchTerm(" hec ")).thenReturn("hec");
+    }
+
+    @Test
+    void searchWarriors_ShouldReturnCompleteArray() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        doAnswer(invocation -> {
+            WarriorSink sink = invocation.getArgument(1);
+            sink.warrior(id, "Hector", LocalDate.of(1988, 3, 20));
+            sink.fightSkill("Spear");
+            return null;
+        }).when(warriorService).streamSearch(eq("hec"), any());
+
+        // When
+        ResponseEntity<byte[]> response = controller.searchWarriors(" hec ").get();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"id\":\"" + id + "\",\"name\":\"Hector\",\"dob\":\"1988-03-20\",\"fightSkills\":[\"Spear\"]}]");
+    }
+
+    @Test
+    void searchWarriors_WhenQueryFailsAfterRows_ShouldFailInsteadOfReturningPartialArray() {
+        // Given
+        doAnswer(invocation -> {
+            WarriorSink sink = invocation.getArgument(1);
+            sink.warrior(UUID.randomUUID(), "Hector", LocalDate.of(1988, 3, 20));
+            throw new IllegalStateException("connection reset");
+        }).when(warriorService).streamSearch(eq("hec"), any());
+
+        // When
+        CompletableFuture<ResponseEntity<byte[]>> response = controller.searchWarriors(" hec ");
+
+        // Then
+        assertThatThrownBy(response::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void searchWarriors_WhenDatabaseIsSaturated_ShouldFailWithOverload() {
+        // Given
+        doThrow(new ServiceOverloadedException("Database is saturated, retry shortly"))
+                .when(warriorService).streamSearch(eq("hec"), any());
+
+        // When
+        CompletableFuture<ResponseEntity<byte[]>> response = controller.searchWarriors(" hec ");
+
+        // Then
+        assertThatThrownBy(response::get).hasCauseInstanceOf(ServiceOverloadedException.class);
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.api.controller;
 
+import com.example.api.bulkhead.BulkheadProperties;
+import com.example.api.bulkhead.Bulkheads;
+import com.example.api.config.ThreadingProperties;
 import com.example.api.dto.CountResponse;
 import com.example.api.dto.CreateWarriorRequest;
 import com.example.api.dto.WarriorResponse;
 import com.example.api.exception.WarriorNotFoundException;
 import com.example.api.service.WarriorService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -29,6 +38,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(WarriorController.class)
 class WarriorControllerTest {
+
+    @TestConfiguration
+    static class InlineBulkheads {
+        @Bean
+        Bulkheads bulkheads() {
+            BulkheadProperties properties = new BulkheadProperties();
+            properties.setEnabled(false);
+            return new Bulkheads(properties, new ThreadingProperties(), new SimpleMeterRegistry());
+        }
+    }
     
     @Autowired
     private MockMvc mockMvc;
@@ -67,7 +86,7 @@ class WarriorControllerTest {
                 .thenReturn(warriorResponse);
         
         // When & Then
-        mockMvc.perform(post("/warrior")
+        performAsync(post("/warrior")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(createRequest)))
                 .andExpect(status().isCreated())
@@ -92,41 +111,66 @@ class WarriorControllerTest {
                 .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.status").value(400))
-                .andExpect(jsonPath("$.error").value("Bad Request"));
+                .andExpect(jsonPath("$.error").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("Validation failed"))
+                .andExpect(jsonPath("$.validationErrors.name").value("Name is required"))
+                .andExpect(jsonPath("$.validationErrors.fightSkills").value("Fight skills are required"))
+                .andExpect(jsonPath("$.validationErrors.dob").doesNotExist());
         
         verify(warriorService, never()).createWarrior(any(CreateWarriorRequest.class));
     }
+
+    @Test
+    void createWarrior_WithBlankOrTooManySkills_ShouldReturnBadRequest() throws Exception {
+        // Given
+        CreateWarriorRequest invalidRequest = CreateWarriorRequest.builder()
+                .name("Leonidas")
+                .dob(LocalDate.of(1990, 5, 15))
+                .fightSkills(Arrays.asList("Swordsmanship", "  "))
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/warrior")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(invalidRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors.fightSkills").value(
+                        "Fight skills must have at most 20 items and a total of 250 characters"));
+
+        verify(warriorService, never()).createWarrior(any(CreateWarriorRequest.class));
+    }
     
     @Test
     void getWarriorById_WhenExists_ShouldReturnWarrior() throws Exception {
         // Given
         UUID id = warriorResponse.getId();
-        when(warriorService.getWarriorById(id)).thenReturn(warriorResponse);
+        when(warriorService.getWarriorJsonById(id)).thenReturn(objectMapper.writeValueAsBytes(warriorResponse));
         
         // When & Then
-        mockMvc.perform(get("/warrior/{id}", id))
+        performAsync(get("/warrior/{id}", id))
                 .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(id.toString()))
                 .andExpect(jsonPath("$.name").value("Achilles"));
         
-        verify(warriorService, times(1)).getWarriorById(id);
+        verify(warriorService, times(1)).getWarriorJsonById(id);
     }
     
     @Test
     void getWarriorById_WhenNotFound_ShouldReturnNotFound() throws Exception {
         // Given
         UUID id = UUID.randomUUID();
-        when(warriorService.getWarriorById(id))
+        when(warriorService.getWarriorJsonById(id))
                 .thenThrow(new WarriorNotFoundException(id));
         
         // When & Then
-        mockMvc.perform(get("/warrior/{id}", id))
+        performAsync(get("/warrior/{id}", id))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404))
                 .andExpect(jsonPath("$.error").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("Warrior not found with id: " + id));
         
-        verify(warriorService, times(1)).getWarriorById(id);
+        verify(warriorService, times(1)).getWarriorJsonById(id);
     }
     
     @Test
@@ -134,30 +178,30 @@ class WarriorControllerTest {
         // Given
         String searchTerm = "Achi";
         List<WarriorResponse> warriors = Arrays.asList(warriorResponse);
-        when(warriorService.searchWarriors(searchTerm)).thenReturn(warriors);
+        when(warriorService.searchWarriorsJson(searchTerm)).thenReturn(objectMapper.writeValueAsBytes(warriors));
         
         // When & Then
-        mockMvc.perform(get("/warrior")
+        performAsync(get("/warrior")
                 .param("t", searchTerm))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].name").value("Achilles"));
         
-        verify(warriorService, times(1)).searchWarriors(searchTerm);
+        verify(warriorService, times(1)).searchWarriorsJson(searchTerm);
     }
     
     @Test
     void searchWarriors_WithoutTerm_ShouldReturnAllWarriors() throws Exception {
         // Given
         List<WarriorResponse> warriors = Arrays.asList(warriorResponse);
-        when(warriorService.searchWarriors(null)).thenReturn(warriors);
+        when(warriorService.searchWarriorsJson(null)).thenReturn(objectMapper.writeValueAsBytes(warriors));
         
         // When & Then
-        mockMvc.perform(get("/warrior"))
+        performAsync(get("/warrior"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(1)));
         
-        verify(warriorService, times(1)).searchWarriors(null);
+        verify(warriorService, times(1)).searchWarriorsJson(null);
     }
     
     @Test
@@ -167,10 +211,21 @@ class WarriorControllerTest {
         when(warriorService.getWarriorCount()).thenReturn(countResponse);
         
         // When & Then
-        mockMvc.perform(get("/counting-warriors"))
+        performAsync(get("/counting-warriors"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.count").value(10));
         
         verify(warriorService, times(1)).getWarriorCount();
     }
+
+    /**
+     * Controller methods complete through the bulkhead future, so the response is
+     * produced by the async dispatch
+     */
+    private ResultActions performAsync(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
 }
@@ -0,0 +1,88 @@
+package com.example.api.controller;
+
+import com.example.api.dto.WarriorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WarriorJsonWriterTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    void write_ShouldMatchJacksonOutputForResponseList() throws Exception {
+        // Given
+        WarriorResponse achilles = warrior("Achilles \"the swift\"", LocalDate.of(1990, 5, 15), "Swordsmanship", "Shield Combat");
+        WarriorResponse hector = warrior("Hector", LocalDate.of(1988, 3, 20));
+        StringWriter out = new StringWriter();
+
+        // When
+        WarriorJsonWriter writer = new WarriorJsonWriter(objectMapper.getFactory().createGenerator(out));
+        for (WarriorResponse warrior : List.of(achilles, hector)) {
+            writer.warrior(warrior.getId(), warrior.getName(), warrior.getDob());
+            warrior.getFightSkills().forEach(writer::fightSkill);
+        }
+        writer.finish();
+
+        // Then
+        assertThat(out.toString()).isEqualTo(objectMapper.writeValueAsString(List.of(achilles, hector)));
+    }
+
+    @Test
+    void write_WithNoWarriors_ShouldWriteEmptyArray() throws Exception {
+        // Given
+        StringWriter out = new StringWriter();
+
+        // When
+        new WarriorJsonWriter(objectMapper.getFactory().createGenerator(out)).finish();
+
+        // Then
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+
+    @Test
+    void write_WhenNotFinished_ShouldLeaveArrayOpen() throws Exception {
+        // Given
+        WarriorResponse hector = warrior("Hector", LocalDate.of(1988, 3, 20), "Spear");
+        StringWriter out = new StringWriter();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+
+        // When
+        WarriorJsonWriter writer = new WarriorJsonWriter(generator);
+        writer.warrior(hector.getId(), hector.getName(), hector.getDob());
+        writer.fightSkill("Spear");
+        generator.flush();
+
+        // Then
+        assertThatThrownBy(() -> objectMapper.readTree(out.toString()))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    private static WarriorResponse warrior(String name, LocalDate dob, String... skills) {
+        return WarriorResponse.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .dob(dob)
+                .fightSkills(List.of(skills))
+                .build();
+    }
+}
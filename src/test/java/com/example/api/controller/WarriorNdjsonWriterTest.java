@@ -0,0 +1,86 @@
+package com.example.api.controller;
+
+import com.example.api.dto.WarriorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarriorNdjsonWriterTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    void write_ShouldWriteOneJacksonEncodedResponsePerLine() throws Exception {
+        // Given
+        WarriorResponse achilles = warrior("Achilles \"the swift\"", "Swordsmanship", "Shield Combat");
+        WarriorResponse hector = warrior("Hector");
+        StringWriter out = new StringWriter();
+
+        // When
+        WarriorNdjsonWriter writer = new WarriorNdjsonWriter(objectMapper.getFactory().createGenerator(out));
+        for (WarriorResponse warrior : List.of(achilles, hector)) {
+            writer.warrior(warrior.getId(), warrior.getName(), warrior.getDob());
+            warrior.getFightSkills().forEach(writer::fightSkill);
+        }
+        writer.finish();
+
+        // Then
+        assertThat(out.toString()).isEqualTo(
+                objectMapper.writeValueAsString(achilles) + "\n"
+                        + objectMapper.writeValueAsString(hector) + "\n"
+                        + "{\"count\":2,\"lastId\":\"" + hector.getId() + "\"}\n");
+    }
+
+    @Test
+    void finish_WhenNothingWasWritten_ShouldWriteEmptyTrailer() throws Exception {
+        // Given
+        StringWriter out = new StringWriter();
+        WarriorNdjsonWriter writer = new WarriorNdjsonWriter(objectMapper.getFactory().createGenerator(out));
+
+        // When
+        writer.finish();
+
+        // Then
+        assertThat(out.toString()).isEqualTo("{\"count\":0,\"lastId\":null}\n");
+    }
+
+    @Test
+    void write_WhenNotFinished_ShouldLeaveOutTrailer() throws Exception {
+        // Given
+        WarriorResponse achilles = warrior("Achilles");
+        StringWriter out = new StringWriter();
+        WarriorNdjsonWriter writer = new WarriorNdjsonWriter(objectMapper.getFactory().createGenerator(out));
+
+        // When
+        writer.warrior(achilles.getId(), achilles.getName(), achilles.getDob());
+        writer.fightSkill("Swordsmanship");
+
+        // Then
+        assertThat(out.toString()).doesNotContain("count");
+    }
+
+    private static WarriorResponse warrior(String name, String... skills) {
+        return WarriorResponse.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .dob(LocalDate.of(1990, 5, 15))
+                .fightSkills(List.of(skills))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.api.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticErrorBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void render_ShouldProduceErrorResponseShape() throws Exception {
+        // When
+        JsonNode body = objectMapper.readTree(StaticErrorBody.MISSING_SEARCH_TERM.render("/warrior"));
+
+        // Then
+        List<String> fields = new ArrayList<>();
+        body.fieldNames().forEachRemaining(fields::add);
+        assertThat(fields).containsExactly("timestamp", "status", "error", "message", "path");
+        assertThat(body.get("status").asInt()).isEqualTo(400);
+        assertThat(body.get("error").asText()).isEqualTo("Bad Request");
+        assertThat(body.get("message").asText()).isEqualTo("Query parameter 't' is required");
+        assertThat(body.get("path").asText()).isEqualTo("/warrior");
+        assertThat(LocalDateTime.parse(body.get("timestamp").asText())).isNotNull();
+    }
+
+    @Test
+    void render_ShouldEscapePath() throws Exception {
+        // When
+        byte[] rendered = StaticErrorBody.MALFORMED_JSON.render("/warrior\"\\x");
+
+        // Then
+        assertThat(objectMapper.readTree(rendered).get("path").asText()).isEqualTo("/warrior\"\\x");
+        assertThat(new String(rendered, StandardCharsets.UTF_8)).contains("\"message\":\"Malformed JSON request\"");
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.api.export;
+
+import com.example.api.config.JdbcAdmission;
+import com.example.api.entity.Skill;
+import com.example.api.entity.Warrior;
+import com.example.api.repository.WarriorSink;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WarriorExporter.class, WarriorExporterTest.ExportConfig.class})
+class WarriorExporterTest {
+
+    @TestConfiguration
+    @EnableConfigurationProperties(ExportProperties.class)
+    static class ExportConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        JdbcAdmission jdbcAdmission() {
+            return JdbcAdmission.UNLIMITED;
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WarriorExporter exporter;
+
+    private List<Warrior> warriorsById;
+
+    @BeforeEach
+    void setUp() {
+        Integer swordsmanship = persistSkill("Swordsmanship");
+        Integer archery = persistSkill("Archery");
+
+        warriorsById = new ArrayList<>(List.of(
+                warrior("Achilles", List.of(swordsmanship, archery)),
+                warrior("Hector", List.of(archery)),
+                warrior("Ajax", List.of())));
+        warriorsById.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+        warriorsById.sort(Comparator.comparing(Warrior::getId));
+    }
+
+    @Test
+    void export_ShouldStreamEveryWarriorInIdOrderWithSkillsInPosition() {
+        // When
+        List<String> events = export(null);
+
+        // Then
+        List<String> expected = new ArrayList<>();
+        for (Warrior warrior : warriorsById) {
+            expected.add(warrior.getName());
+            switch (warrior.getName()) {
+                case "Achilles" -> expected.addAll(List.of("- Swordsmanship", "- Archery"));
+                case "Hector" -> expected.add("- Archery");
+                default -> { }
+            }
+        }
+        assertThat(events).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void export_AfterId_ShouldResumeWithLaterWarriors() {
+        // When
+        List<String> events = export(warriorsById.get(1).getId());
+
+        // Then
+        assertThat(events).filteredOn(event -> !event.startsWith("- "))
+                .containsExactly(warriorsById.get(2).getName());
+    }
+
+    private List<String> export(UUID after) {
+        List<String> events = new ArrayList<>();
+        exporter.export(after, new WarriorSink() {
+            @Override
+            public void warrior(UUID id, String name, LocalDate dob) {
+                events.add(name);
+            }
+
+            @Override
+            public void fightSkill(String skill) {
+                events.add("- " + skill);
+            }
+        });
+        return events;
+    }
+
+    private static Warrior warrior(String name, List<Integer> skillIds) {
+        return Warrior.builder()
+                .name(name)
+                .dob(LocalDate.of(1990, 1, 1))
+                .fightSkillIds(new ArrayList<>(skillIds))
+                .build();
+    }
+
+    private Integer persistSkill(String name) {
+        return entityManager.persistAndFlush(Skill.builder().name(name).build()).getId();
+    }
+}
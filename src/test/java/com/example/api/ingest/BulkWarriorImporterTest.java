@@ -0,0 +1,158 @@
+package com.example.api.ingest;
+
+import com.example.api.config.JdbcAdmission;
+import com.example.api.service.WarriorService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkWarriorImporterTest {
+
+    private static final String VALID = "{\"name\":\"%s\",\"dob\":\"1990-01-01\",\"fightSkills\":[\"Archery\"]}";
+
+    @Mock
+    private WarriorBatchInserter batchInserter;
+
+    @Mock
+    private WarriorService warriorService;
+
+    private BulkWarriorImporter importer;
+    private final RecordingListener listener = new RecordingListener();
+    private final AtomicInteger admissions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        IngestProperties properties = new IngestProperties();
+        properties.getBulk().setBatchSize(2);
+        JdbcAdmission countingAdmission = new JdbcAdmission() {
+            @Override
+            public <T> T call(Supplier<T> work) {
+                admissions.incrementAndGet();
+                return work.get();
+            }
+        };
+        importer = new BulkWarriorImporter(batchInserter, warriorService, countingAdmission,
+                new ObjectMapper().registerModule(new JavaTimeModule()), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void ingest_Ndjson_ShouldStoreInBatchesAndReportInInputOrder() throws IOException {
+        // Given
+        String body = String.join("\n",
+                VALID.formatted("Achilles"),
+                "{\"dob\":\"1990-01-01\",\"fightSkills\":[]}",
+                VALID.formatted("Hector"),
+                VALID.formatted("Ajax"));
+
+        // When
+        boolean complete = importer.ingest(stream(body), listener);
+
+        // Then
+        assertThat(complete).isTrue();
+        assertThat(listener.lines).containsExactly(
+                "1 accepted", "2 rejected {name=Name is required}", "3 accepted", "4 accepted");
+        verify(batchInserter, times(2)).insertAll(any());
+        verify(warriorService, times(3)).afterCreate(any());
+        assertThat(admissions).hasValue(2);
+    }
+
+    @Test
+    void ingest_JsonArray_ShouldReadEachElement() throws IOException {
+        // When
+        boolean complete = importer.ingest(
+                stream("[" + VALID.formatted("Achilles") + "," + VALID.formatted("Hector") + "]"), listener);
+
+        // Then
+        assertThat(complete).isTrue();
+        assertThat(listener.lines).containsExactly("1 accepted", "2 accepted");
+    }
+
+    @Test
+    void ingest_WhenRecordHasWrongShape_ShouldRejectItAndContinue() throws IOException {
+        // Given
+        String body = "{\"name\":\"Achilles\",\"dob\":\"not a date\",\"fightSkills\":[]}\n" + VALID.formatted("Hector");
+
+        // When
+        boolean complete = importer.ingest(stream(body), listener);
+
+        // Then
+        assertThat(complete).isTrue();
+        assertThat(listener.lines).containsExactly("1 rejected {dob=Invalid value}", "2 accepted");
+    }
+
+    @Test
+    void ingest_WhenJsonIsMalformed_ShouldReportEarlierRecordsAndStop() throws IOException {
+        // Given
+        String body = VALID.formatted("Achilles") + "\n{\"name\": }\n" + VALID.formatted("Hector");
+
+        // When
+        boolean complete = importer.ingest(stream(body), listener);
+
+        // Then
+        assertThat(complete).isFalse();
+        assertThat(listener.lines).containsExactly("1 accepted", "2 rejected {payload=Malformed JSON}");
+    }
+
+    @Test
+    void ingest_WhenDatabaseRefusesBatch_ShouldRetryRecordsOneByOne() throws IOException {
+        // Given
+        doAnswer(invocation -> {
+            List<NewWarrior> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).name().equals("Hector")) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return null;
+        }).when(batchInserter).insertAll(any());
+
+        // When
+        importer.ingest(stream(VALID.formatted("Achilles") + "\n" + VALID.formatted("Hector")), listener);
+
+        // Then
+        assertThat(listener.lines).containsExactly("1 accepted", "2 failed");
+        verify(warriorService, times(1)).afterCreate(any());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class RecordingListener implements BulkIngestListener {
+        private final List<String> lines = new ArrayList<>();
+
+        @Override
+        public void accepted(int record, UUID id) {
+            lines.add(record + " accepted");
+        }
+
+        @Override
+        public void rejected(int record, Map<String, String> violations) {
+            lines.add(record + " rejected " + violations);
+        }
+
+        @Override
+        public void failed(int record, String message) {
+            lines.add(record + " failed");
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+import com.example.api.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitWarriorWriterTest {
+
+    @Mock
+    private WarriorBatchInserter batchInserter;
+
+    // Every write blocks its caller, so each needs its own thread
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private IngestProperties.GroupCommit settings;
+    private SimpleMeterRegistry meterRegistry;
+    private GroupCommitWarriorWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        settings = new IngestProperties().getGroupCommit();
+        settings.setWriterThreads(1);
+        settings.setResponseTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writer != null) {
+            writer.stop();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void write_WhenCreatesArriveTogether_ShouldCommitThemInOneBatch() throws Exception {
+        // Given
+        settings.setBatchSize(3);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        recordBatches();
+        writer = start();
+
+        // When
+        List<CompletableFuture<WarriorResponse>> writes = writeAll("Achilles", "Hector", "Ajax");
+
+        // Then
+        List<String> names = new ArrayList<>();
+        for (CompletableFuture<WarriorResponse> write : writes) {
+            names.add(write.get(5, TimeUnit.SECONDS).getName());
+        }
+        assertThat(names).containsExactly("Achilles", "Hector", "Ajax");
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactlyInAnyOrder("Achilles", "Hector", "Ajax");
+    }
+
+    @Test
+    void write_WhenBatchFails_ShouldRetryRowsOneByOneAndFailOnlyTheBadOne() throws Exception {
+        // Given
+        settings.setBatchSize(3);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        doAnswer(invocation -> {
+            List<NewWarrior> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(NewWarrior::name).toList());
+            if (batch.size() > 1 || batch.get(0).name().equals("Bad")) {
+                throw new DataIntegrityViolationException("name too long");
+            }
+            return null;
+        }).when(batchInserter).insertAll(anyList());
+        writer = start();
+
+        // When
+        List<CompletableFuture<WarriorResponse>> writes = writeAll("Achilles", "Bad", "Hector");
+
+        // Then
+        assertThat(writes.get(0).get(5, TimeUnit.SECONDS).getName()).isEqualTo("Achilles");
+        assertThat(writes.get(2).get(5, TimeUnit.SECONDS).getName()).isEqualTo("Hector");
+        assertThatThrownBy(() -> writes.get(1).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        assertThat(batches).hasSize(4);
+        assertThat(batches.get(0)).hasSize(3);
+        assertThat(batches.subList(1, 4)).allMatch(batch -> batch.size() == 1);
+    }
+
+    @Test
+    void write_WhenDatabaseIsUnreachable_ShouldFailTheWholeBatchWithoutRetrying() throws Exception {
+        // Given
+        settings.setBatchSize(3);
+        settings.setMaxLinger(Duration.ofSeconds(2));
+        doAnswer(invocation -> {
+            List<NewWarrior> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(NewWarrior::name).toList());
+            throw new CannotGetJdbcConnectionException("Connection refused");
+        }).when(batchInserter).insertAll(anyList());
+        writer = start();
+
+        // When
+        List<CompletableFuture<WarriorResponse>> writes = writeAll("Achilles", "Hector", "Ajax");
+
+        // Then
+        for (CompletableFuture<WarriorResponse> write : writes) {
+            assertThatThrownBy(() -> write.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(CannotGetJdbcConnectionException.class);
+        }
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3);
+    }
+
+    @Test
+    void write_WhenQueueIsFull_ShouldRejectWith503() throws Exception {
+        // Given
+        settings.setWriterThreads(0);
+        settings.setQueueCapacity(1);
+        settings.setResponseTimeout(Duration.ofSeconds(2));
+        writer = start();
+        CompletableFuture<WarriorResponse> queued = CompletableFuture.supplyAsync(() -> writer.write(request("Achilles")), callers);
+        waitFor(() -> queueDepth() == 1);
+
+        // When & Then
+        assertThatThrownBy(() -> writer.write(request("Hector")))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("queue is full");
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @Test
+    void write_WhenCommitTakesLongerThanResponseTimeout_ShouldRejectWith503() {
+        // Given
+        settings.setWriterThreads(0);
+        settings.setResponseTimeout(Duration.ofMillis(50));
+        writer = start();
+
+        // When & Then
+        assertThatThrownBy(() -> writer.write(request("Achilles")))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    void write_WhenTimedOutInQueue_ShouldDropTheWarriorAndNeverCommitIt() throws Exception {
+        // Given
+        settings.setBatchSize(1);
+        settings.setMaxLinger(Duration.ZERO);
+        settings.setResponseTimeout(Duration.ofMillis(200));
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<NewWarrior> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(NewWarrior::name).toList());
+            firstBatchStarted.countDown();
+            releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(batchInserter).insertAll(anyList());
+        writer = start();
+        CompletableFuture<WarriorResponse> taken = CompletableFuture.supplyAsync(() -> writer.write(request("Achilles")), callers);
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<WarriorResponse> waiting = CompletableFuture.supplyAsync(() -> writer.write(request("Hector")), callers);
+
+        // Then
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("was not created");
+        assertThatThrownBy(() -> taken.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("it may still be created");
+        releaseFirstBatch.countDown();
+        writer.stop();
+        assertThat(batches).containsExactly(List.of("Achilles"));
+    }
+
+    @Test
+    void stop_ShouldCommitQueuedCreatesAndRejectNewOnes() throws Exception {
+        // Given
+        settings.setBatchSize(1);
+        settings.setMaxLinger(Duration.ZERO);
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<NewWarrior> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(NewWarrior::name).toList());
+            firstBatchStarted.countDown();
+            releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(batchInserter).insertAll(anyList());
+        writer = start();
+        CompletableFuture<WarriorResponse> first = CompletableFuture.supplyAsync(() -> writer.write(request("Achilles")), callers);
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<WarriorResponse>> queued = writeAll("Hector", "Ajax");
+        waitFor(() -> queueDepth() == 2);
+
+        // When
+        Thread stopper = new Thread(() -> {
+            try {
+                writer.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stopper.start();
+        // stop() clears running before it joins the writers
+        waitFor(() -> stopper.getState() == Thread.State.TIMED_WAITING);
+        releaseFirstBatch.countDown();
+        stopper.join(5_000);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS).getName()).isEqualTo("Achilles");
+        assertThat(queued.get(0).get(5, TimeUnit.SECONDS).getName()).isEqualTo("Hector");
+        assertThat(queued.get(1).get(5, TimeUnit.SECONDS).getName()).isEqualTo("Ajax");
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0)).containsExactly("Achilles");
+        assertThatThrownBy(() -> writer.write(request("Later")))
+                .isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    private GroupCommitWarriorWriter start() {
+        IngestProperties properties = new IngestProperties();
+        properties.setGroupCommit(settings);
+        meterRegistry = new SimpleMeterRegistry();
+        GroupCommitWarriorWriter started = new GroupCommitWarriorWriter(batchInserter, properties, meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            List<NewWarrior> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(NewWarrior::name).toList());
+            return null;
+        }).when(batchInserter).insertAll(anyList());
+    }
+
+    private List<CompletableFuture<WarriorResponse>> writeAll(String... names) {
+        List<CompletableFuture<WarriorResponse>> writes = new ArrayList<>();
+        for (String name : names) {
+            writes.add(CompletableFuture.supplyAsync(() -> writer.write(request(name)), callers));
+        }
+        return writes;
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("warrior.ingest.queue.depth").gauge().value();
+    }
+
+    private static CreateWarriorRequest request(String name) {
+        return CreateWarriorRequest.builder()
+                .name(name)
+                .dob(LocalDate.of(1990, 5, 15))
+                .fightSkills(List.of("Swordsmanship"))
+                .build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
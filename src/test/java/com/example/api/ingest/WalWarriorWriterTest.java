@@ -0,0 +1,205 @@
+package com.example.api.ingest;
+
+import com.example.api.dto.CreateWarriorRequest;
+import com.example.api.dto.WarriorResponse;
+import com.example.api.exception.ServiceOverloadedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WalWarriorWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private WarriorBatchInserter batchInserter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final List<WarriorResponse> committed = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private IngestProperties properties;
+    private WalWarriorWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IngestProperties();
+        properties.getWal().setDirectory(directory.toString());
+        properties.getWal().setSegmentSize(DataSize.ofKilobytes(64));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void write_ShouldApplyRecordAndReportItCommitted() throws Exception {
+        // Given
+        writer = start();
+
+        // When
+        WarriorResponse created = writer.write(request("Achilles"));
+
+        // Then
+        verify(batchInserter, timeout(5_000)).insertMissing(List.of(new NewWarrior(
+                created.getId(), "Achilles", created.getDob(), created.getFightSkills())));
+        waitFor(() -> committed.size() == 1);
+        assertThat(committed).extracting(WarriorResponse::getId).containsExactly(created.getId());
+    }
+
+    @Test
+    void start_ShouldReplayRecordsLoggedBeforeRestart() throws Exception {
+        // Given
+        WriteAheadLog previousRun = new WriteAheadLog(directory,
+                (int) properties.getWal().getSegmentSize().toBytes(), new SimpleMeterRegistry());
+        NewWarrior hector = new NewWarrior(UUID.randomUUID(), "Hector", LocalDate.of(1988, 3, 20), List.of("Spear"));
+        long end = previousRun.append(NewWarriorCodec.encode(hector));
+        assertThat(previousRun.awaitDurable(end, 5, TimeUnit.SECONDS)).isTrue();
+        previousRun.close();
+
+        // When
+        writer = start();
+
+        // Then
+        verify(batchInserter, timeout(5_000)).insertMissing(List.of(hector));
+        waitFor(() -> committed.size() == 1);
+        assertThat(committed.get(0).getId()).isEqualTo(hector.id());
+    }
+
+    @Test
+    void write_WhenApplyFallsTooFarBehind_ShouldRejectWith503() throws Exception {
+        // Given
+        properties.getWal().setMaxLag(DataSize.ofBytes(1));
+        doThrow(new QueryTimeoutException("database unavailable")).when(batchInserter).insertMissing(anyList());
+        writer = start();
+        writer.write(request("Achilles"));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.write(request("Hector")))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("too far ahead");
+        assertThat(committed).isEmpty();
+
+        // The database comes back, so the applier can drain before stop
+        doNothing().when(batchInserter).insertMissing(anyList());
+    }
+
+    @Test
+    void apply_WhenDatabaseRejectsRecord_ShouldDeadLetterItAndApplyTheRest() throws Exception {
+        // Given
+        lenient().doThrow(new DataIntegrityViolationException("batch rejected"))
+                .when(batchInserter).insertMissing(argThat(batch -> batch.size() > 1));
+        lenient().doThrow(new DataIntegrityViolationException("name too long"))
+                .when(batchInserter).insertMissing(argThat(batch -> batch.size() == 1 && batch.get(0).name().equals("Bad")));
+        WriteAheadLog previousRun = new WriteAheadLog(directory,
+                (int) properties.getWal().getSegmentSize().toBytes(), new SimpleMeterRegistry());
+        List<NewWarrior> logged = new ArrayList<>();
+        long end = 0;
+        for (String name : List.of("Achilles", "Bad", "Hector")) {
+            NewWarrior warrior = new NewWarrior(UUID.randomUUID(), name, LocalDate.of(1990, 1, 1), List.of("Spear"));
+            logged.add(warrior);
+            end = previousRun.append(NewWarriorCodec.encode(warrior));
+        }
+        assertThat(previousRun.awaitDurable(end, 5, TimeUnit.SECONDS)).isTrue();
+        previousRun.close();
+
+        // When
+        writer = start();
+
+        // Then
+        waitFor(() -> committed.size() == 2);
+        assertThat(committed).extracting(WarriorResponse::getName).containsExactly("Achilles", "Hector");
+        assertThat(meterRegistry.get("warrior.wal.dead.letters").counter().count()).isEqualTo(1);
+        List<String> deadLetters = Files.readAllLines(directory.resolve("dead-letter.ndjson"));
+        assertThat(deadLetters).hasSize(1);
+        JsonNode deadLetter = objectMapper.readTree(deadLetters.get(0));
+        assertThat(deadLetter.get("id").asText()).isEqualTo(logged.get(1).id().toString());
+        assertThat(deadLetter.get("error").asText()).isEqualTo("name too long");
+    }
+
+    @Test
+    void start_WhenInstancesShareTheDirectory_ShouldGiveEachItsOwnSubdirectory() throws Exception {
+        // Given
+        properties.getWal().setInstances(2);
+        writer = start();
+        WalWarriorWriter second = start();
+
+        try {
+            // When
+            WarriorResponse created = writer.write(request("Achilles"));
+            second.write(request("Hector"));
+
+            // Then
+            assertThat(directory.resolve("instance-0")).isDirectory();
+            assertThat(directory.resolve("instance-1")).isDirectory();
+            verify(batchInserter, timeout(5_000)).insertMissing(List.of(new NewWarrior(
+                    created.getId(), "Achilles", created.getDob(), created.getFightSkills())));
+            assertThatThrownBy(this::start)
+                    .isInstanceOf(WalDirectoryInUseException.class)
+                    .hasMessageContaining("All 2 write-ahead log directories");
+        } finally {
+            second.stop();
+        }
+    }
+
+    private WalWarriorWriter start() {
+        meterRegistry = new SimpleMeterRegistry();
+        WalWarriorWriter started = new WalWarriorWriter(batchInserter, properties, objectMapper, meterRegistry);
+        started.onCommitted(committed::addAll);
+        started.start();
+        return started;
+    }
+
+    private static CreateWarriorRequest request(String name) {
+        return CreateWarriorRequest.builder()
+                .name(name)
+                .dob(LocalDate.of(1990, 5, 15))
+                .fightSkills(List.of("Swordsmanship"))
+                .build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.api.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteAheadLogTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WriteAheadLog wal;
+
+    @AfterEach
+    void tearDown() {
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    @Test
+    void append_ShouldBeReadableOnceDurable() throws Exception {
+        // Given
+        wal = open();
+        NewWarrior achilles = warrior("Achilles");
+
+        // When
+        long end = wal.append(NewWarriorCodec.encode(achilles));
+
+        // Then
+        assertThat(wal.awaitDurable(end, 5, TimeUnit.SECONDS)).isTrue();
+        assertThat(readAll(wal)).containsExactly(achilles);
+    }
+
+    @Test
+    void append_WhenSegmentIsFull_ShouldRollOver() throws Exception {
+        // When
+        wal = open();
+        List<NewWarrior> appended = appendDurably(wal, 200);
+
+        // Then
+        assertThat(readAll(wal)).containsExactlyElementsOf(appended);
+        assertThat(meterRegistry.get("warrior.wal.segment.rollovers").counter().count()).isPositive();
+    }
+
+    @Test
+    void open_ShouldReplayRecordsAfterCheckpoint() throws Exception {
+        // Given
+        wal = open();
+        List<NewWarrior> appended = appendDurably(wal, 200);
+        List<Long> ends = new ArrayList<>();
+        wal.read(0, 150, (payload, endLsn) -> ends.add(endLsn));
+        wal.checkpoint(ends.get(ends.size() - 1));
+        wal.close();
+
+        // When
+        wal = open();
+
+        // Then
+        assertThat(readAll(wal)).containsExactlyElementsOf(appended.subList(150, 200));
+        assertThat(directory.resolve(segmentName(0))).doesNotExist();
+    }
+
+    @Test
+    void open_ShouldCutLogAtTornRecord() throws Exception {
+        // Given
+        wal = open();
+        List<NewWarrior> appended = appendDurably(wal, 3);
+        long durable = wal.durableLsn();
+        wal.close();
+        try (FileChannel segment = FileChannel.open(directory.resolve(segmentName(0)),
+                StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), durable - 3);
+        }
+
+        // When
+        wal = open();
+
+        // Then
+        assertThat(readAll(wal)).containsExactlyElementsOf(appended.subList(0, 2));
+        long end = wal.append(NewWarriorCodec.encode(warrior("Hector")));
+        assertThat(wal.awaitDurable(end, 5, TimeUnit.SECONDS)).isTrue();
+        assertThat(readAll(wal)).hasSize(3);
+    }
+
+    @Test
+    void open_WhenDirectoryIsInUse_ShouldFail() {
+        // Given
+        wal = open();
+
+        // When & Then
+        assertThatThrownBy(this::open)
+                .isInstanceOf(WalDirectoryInUseException.class)
+                .hasMessageContaining("in use by another instance");
+    }
+
+    @Test
+    void open_AfterClose_ShouldTakeOverTheDirectory() throws Exception {
+        // Given
+        wal = open();
+        List<NewWarrior> appended = appendDurably(wal, 3);
+        wal.close();
+
+        // When
+        wal = open();
+
+        // Then
+        assertThat(readAll(wal)).containsExactlyElementsOf(appended);
+    }
+
+    private WriteAheadLog open() {
+        meterRegistry = new SimpleMeterRegistry();
+        return new WriteAheadLog(directory, SEGMENT_SIZE, meterRegistry);
+    }
+
+    private static List<NewWarrior> appendDurably(WriteAheadLog wal, int count) throws InterruptedException {
+        List<NewWarrior> appended = new ArrayList<>();
+        long end = 0;
+        for (int i = 0; i < count; i++) {
+            NewWarrior warrior = warrior("Warrior " + i);
+            appended.add(warrior);
+            end = wal.append(NewWarriorCodec.encode(warrior));
+        }
+        assertThat(wal.awaitDurable(end, 5, TimeUnit.SECONDS)).isTrue();
+        return appended;
+    }
+
+    private static List<NewWarrior> readAll(WriteAheadLog wal) {
+        List<NewWarrior> read = new ArrayList<>();
+        wal.read(wal.appliedLsn(), Integer.MAX_VALUE, (payload, endLsn) -> read.add(NewWarriorCodec.decode(payload)));
+        return read;
+    }
+
+    private static String segmentName(long base) {
+        return String.format("wal-%020d.log", base);
+    }
+
+    private static NewWarrior warrior(String name) {
+        return new NewWarrior(UUID.randomUUID(), name, LocalDate.of(1990, 1, 1), List.of("Archery", "Shield Combat"));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.api.repository;
+
+import com.example.api.dto.WarriorResponse;
+import com.example.api.entity.Skill;
+import com.example.api.entity.Warrior;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({WarriorReadRepository.class, SkillDictionary.class})
+class WarriorReadRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WarriorReadRepository readRepository;
+
+    private Warrior warrior1;
+    private Warrior warrior2;
+
+    @BeforeEach
+    void setUp() {
+        Integer swordsmanship = persistSkill("Swordsmanship");
+        Integer shieldCombat = persistSkill("Shield Combat");
+        Integer spearFighting = persistSkill("Spear Fighting");
+        Integer archery = persistSkill("Archery");
+
+        warrior1 = Warrior.builder()
+                .name("Achilles")
+                .dob(LocalDate.of(1990, 5, 15))
+                .fightSkillIds(Arrays.asList(swordsmanship, shieldCombat))
+                .build();
+
+        warrior2 = Warrior.builder()
+                .name("Hector")
+                .dob(LocalDate.of(1988, 3, 20))
+                .fightSkillIds(Arrays.asList(spearFighting, archery))
+                .build();
+
+        entityManager.persist(warrior1);
+        entityManager.persist(warrior2);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findById_WhenExists_ShouldReturnWarriorWithSkills() {
+        // When
+        Optional<WarriorResponse> found = readRepository.findById(warrior1.getId());
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().getName()).isEqualTo("Achilles");
+        assertThat(found.get().getDob()).isEqualTo(LocalDate.of(1990, 5, 15));
+        assertThat(found.get().getFightSkills())
+                .containsExactlyInAnyOrder("Swordsmanship", "Shield Combat");
+    }
+
+    @Test
+    void findById_WhenMissing_ShouldReturnEmpty() {
+        // When
+        Optional<WarriorResponse> found = readRepository.findById(UUID.randomUUID());
+
+        // Then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void findAllByIds_ShouldKeepRequestedOrderAndSkipUnknownIds() {
+        // When
+        List<WarriorResponse> found = readRepository.findAllByIds(
+                List.of(warrior2.getId(), UUID.randomUUID(), warrior1.getId()));
+
+        // Then
+        assertThat(found).extracting(WarriorResponse::getName).containsExactly("Hector", "Achilles");
+    }
+
+    @Test
+    void search_WithNameMatch_ShouldReturnWarriors() {
+        // When
+        List<WarriorResponse> found = readRepository.search(
+                WarriorReadRepository.containsPattern("Hec"), 50);
+
+        // Then
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getName()).isEqualTo("Hector");
+        assertThat(found.get(0).getFightSkills()).containsExactlyInAnyOrder("Spear Fighting", "Archery");
+    }
+
+    @Test
+    void search_WithSkillMatch_ShouldReturnWarriors() {
+        // When
+        List<WarriorResponse> found = readRepository.search(
+                WarriorReadRepository.containsPattern("Archery"), 50);
+
+        // Then
+        assertThat(found).hasSize(1);
+        assertThat(found.get(0).getName()).isEqualTo("Hector");
+    }
+
+    @Test
+    void search_WithNameAndSkillMatches_ShouldReturnMultipleWarriors() {
+        // When
+        List<WarriorResponse> found = readRepository.search(
+                WarriorReadRepository.containsPattern("hi"), 50);
+
+        // Then - "Achilles" matches by name, Hector by "Fighting"
+        assertThat(found).extracting(WarriorResponse::getName)
+                .containsExactlyInAnyOrder("Achilles", "Hector");
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        // When
+        List<WarriorResponse> found = readRepository.search(
+                WarriorReadRepository.containsPattern("hi"), 1);
+
+        // Then
+        assertThat(found).hasSize(1);
+    }
+
+    @Test
+    void search_ShouldTreatWildcardsLiterally() {
+        // When
+        List<WarriorResponse> found = readRepository.search(
+                WarriorReadRepository.containsPattern("%"), 50);
+
+        // Then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void findIdsMatching_ShouldOnlyKeepCandidatesThatMatch() {
+        // When
+        List<UUID> found = readRepository.findIdsMatching(
+                List.of(warrior1.getId(), warrior2.getId()),
+                WarriorReadRepository.containsPattern("spear"));
+
+        // Then
+        assertThat(found).containsExactly(warrior2.getId());
+    }
+
+    @Test
+    void streamSearch_ShouldHandEachWarriorToSinkFollowedByItsSkills() {
+        // Given
+        List<String> events = new ArrayList<>();
+        WarriorSink sink = new WarriorSink() {
+            @Override
+            public void warrior(UUID id, String name, LocalDate dob) {
+                events.add(name + " " + dob);
+            }
+
+            @Override
+            public void fightSkill(String skill) {
+                events.add("- " + skill);
+            }
+        };
+
+        // When
+        readRepository.streamSearch(WarriorReadRepository.containsPattern("Hec"), 50, sink);
+
+        // Then
+        assertThat(events).containsExactly("Hector 1988-03-20", "- Spear Fighting", "- Archery");
+    }
+
+    private Integer persistSkill(String name) {
+        return entityManager.persistAndFlush(Skill.builder().name(name).build()).getId();
+    }
+}
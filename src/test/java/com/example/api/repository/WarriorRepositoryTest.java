@@ -1,11 +1,13 @@
 package com.example.api.repository;
 
+import com.example.api.entity.Skill;
 import com.example.api.entity.Warrior;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -15,6 +17,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@ActiveProfiles("test")
 class WarriorRepositoryTest {
     
     @Autowired
@@ -28,16 +31,21 @@ class WarriorRepositoryTest {
     
     @BeforeEach
     void setUp() {
+        Integer swordsmanship = persistSkill("Swordsmanship");
+        Integer shieldCombat = persistSkill("Shield Combat");
+        Integer spearFighting = persistSkill("Spear Fighting");
+        Integer archery = persistSkill("Archery");
+
         warrior1 = Warrior.builder()
                 .name("Achilles")
                 .dob(LocalDate.of(1990, 5, 15))
-                .fightSkills(Arrays.asList("Swordsmanship", "Shield Combat"))
+                .fightSkillIds(Arrays.asList(swordsmanship, shieldCombat))
                 .build();
         
         warrior2 = Warrior.builder()
                 .name("Hector")
                 .dob(LocalDate.of(1988, 3, 20))
-                .fightSkills(Arrays.asList("Spear Fighting", "Archery"))
+                .fightSkillIds(Arrays.asList(spearFighting, archery))
                 .build();
         
         entityManager.persist(warrior1);
@@ -51,7 +59,7 @@ class WarriorRepositoryTest {
         Warrior newWarrior = Warrior.builder()
                 .name("Leonidas")
                 .dob(LocalDate.of(1985, 7, 10))
-                .fightSkills(Arrays.asList("Shield Combat"))
+                .fightSkillIds(Arrays.asList(persistSkill("Phalanx")))
                 .build();
         
         // When
@@ -84,35 +92,6 @@ class WarriorRepositoryTest {
         assertThat(found.get(0).getName()).isEqualTo("Achilles");
     }
     
-    @Test
-    void searchByNameOrSkills_WithNameMatch_ShouldReturnWarriors() {
-        // When
-        List<Warrior> found = warriorRepository.searchByNameOrSkills("Hec");
-        
-        // Then
-        assertThat(found).hasSize(1);
-        assertThat(found.get(0).getName()).isEqualTo("Hector");
-    }
-    
-    @Test
-    void searchByNameOrSkills_WithSkillMatch_ShouldReturnWarriors() {
-        // When
-        List<Warrior> found = warriorRepository.searchByNameOrSkills("Archery");
-        
-        // Then
-        assertThat(found).hasSize(1);
-        assertThat(found.get(0).getName()).isEqualTo("Hector");
-    }
-    
-    @Test
-    void searchByNameOrSkills_WithCommonSkill_ShouldReturnMultipleWarriors() {
-        // When
-        List<Warrior> found = warriorRepository.searchByNameOrSkills("Combat");
-        
-        // Then - Both warriors have "Combat" in their skills
-        assertThat(found).hasSize(2);
-    }
-    
     @Test
     void count_ShouldReturnCorrectCount() {
         // When
@@ -121,4 +100,8 @@ class WarriorRepositoryTest {
         // Then
         assertThat(count).isEqualTo(2);
     }
+
+    private Integer persistSkill(String name) {
+        return entityManager.persistAndFlush(Skill.builder().name(name).build()).getId();
+    }
 }
@@ -0,0 +1,93 @@
+package com.example.api.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+    private UUID achilles;
+    private UUID hector;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        achilles = UUID.randomUUID();
+        hector = UUID.randomUUID();
+
+        index.add(achilles, "Achilles", Arrays.asList("Swordsmanship", "Shield Combat"));
+        index.add(hector, "Hector", Arrays.asList("Spear Fighting", "Archery"));
+    }
+
+    @Test
+    void candidates_WithNameSubstring_ShouldReturnMatchingDocument() {
+        // When
+        int[] docs = index.candidates("chil");
+
+        // Then
+        assertThat(docs).containsExactly(0);
+        assertThat(index.idOf(docs[0])).isEqualTo(achilles);
+    }
+
+    @Test
+    void candidates_ShouldIgnoreCase() {
+        // When
+        int[] docs = index.candidates("HECT");
+
+        // Then
+        assertThat(docs).containsExactly(1);
+        assertThat(index.idOf(docs[0])).isEqualTo(hector);
+    }
+
+    @Test
+    void candidates_WithSkillSubstring_ShouldReturnAllDocumentsContainingIt() {
+        // Given
+        UUID leonidas = UUID.randomUUID();
+        index.add(leonidas, "Leonidas", List.of("Shield Combat"));
+
+        // When
+        int[] docs = index.candidates("combat");
+
+        // Then
+        assertThat(docs).containsExactly(0, 2);
+    }
+
+    @Test
+    void candidates_WithUnknownTrigram_ShouldReturnEmpty() {
+        // When
+        int[] docs = index.candidates("xyz");
+
+        // Then
+        assertThat(docs).isEmpty();
+    }
+
+    @Test
+    void candidates_WithTermShorterThanTrigram_ShouldReturnNull() {
+        // When
+        int[] docs = index.candidates("ac");
+
+        // Then - the caller has to fall back to the database
+        assertThat(docs).isNull();
+    }
+
+    @Test
+    void add_ShouldGrowBeyondInitialCapacity() {
+        // Given
+        for (int i = 0; i < 5000; i++) {
+            index.add(UUID.randomUUID(), "Warrior " + i, List.of("Karate"));
+        }
+
+        // When
+        int[] docs = index.candidates("karate");
+
+        // Then
+        assertThat(index.size()).isEqualTo(5002);
+        assertThat(docs).hasSize(5000);
+    }
+}
@@ -1,151 +1,228 @@
 package com.example.api.service;
 
+import com.example.api.cache.CacheProperties;
+import com.example.api.cache.Coalescing;
+import com.example.api.cache.LookupCache;
+import com.example.api.cache.SearchResultCache;
+import com.example.api.cache.WarriorJsonCodec;
+import com.example.api.cache.WarriorLookupCache;
+import com.example.api.config.JdbcAdmission;
 import com.example.api.dto.CountResponse;
 import com.example.api.dto.CreateWarriorRequest;
 import com.example.api.dto.WarriorResponse;
-import com.example.api.entity.Warrior;
+import com.example.api.exception.InvalidSearchTermException;
 import com.example.api.exception.WarriorNotFoundException;
-import com.example.api.repository.WarriorRepository;
+import com.example.api.ingest.WarriorWriter;
+import com.example.api.repository.WarriorCounterRepository;
+import com.example.api.repository.WarriorReadRepository;
+import com.example.api.search.SearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class WarriorServiceTest {
-    
+
+    @Mock
+    private WarriorReadRepository readRepository;
+
+    @Mock
+    private WarriorCounterRepository counterRepository;
+
     @Mock
-    private WarriorRepository warriorRepository;
-    
-    @InjectMocks
+    private WarriorWriter warriorWriter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final WarriorJsonCodec jsonCodec = new WarriorJsonCodec(objectMapper);
+
     private WarriorService warriorService;
-    
-    private Warrior testWarrior;
+
+    private WarriorResponse testWarrior;
     private CreateWarriorRequest createRequest;
-    
+
     @BeforeEach
     void setUp() {
-        testWarrior = Warrior.builder()
+        warriorService = new WarriorService(
+                readRepository, counterRepository, warriorWriter, jsonCodec,
+                SearchIndex.NONE, LookupCache.NONE, SearchResultCache.NONE, Coalescing.NONE, JdbcAdmission.UNLIMITED);
+
+        testWarrior = WarriorResponse.builder()
                 .id(UUID.randomUUID())
                 .name("Achilles")
                 .dob(LocalDate.of(1990, 5, 15))
                 .fightSkills(Arrays.asList("Swordsmanship", "Shield Combat"))
                 .build();
-        
+
         createRequest = CreateWarriorRequest.builder()
                 .name("Achilles")
                 .dob(LocalDate.of(1990, 5, 15))
                 .fightSkills(Arrays.asList("Swordsmanship", "Shield Combat"))
                 .build();
     }
-    
+
     @Test
     void createWarrior_ShouldReturnCreatedWarrior() {
         // Given
-        when(warriorRepository.save(any(Warrior.class))).thenReturn(testWarrior);
-        
+        when(warriorWriter.write(createRequest)).thenReturn(testWarrior);
+
         // When
         WarriorResponse response = warriorService.createWarrior(createRequest);
-        
+
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(testWarrior.getId());
         assertThat(response.getName()).isEqualTo("Achilles");
         assertThat(response.getDob()).isEqualTo(LocalDate.of(1990, 5, 15));
         assertThat(response.getFightSkills()).containsExactly("Swordsmanship", "Shield Combat");
-        
-        verify(warriorRepository, times(1)).save(any(Warrior.class));
+
+        verify(warriorWriter, times(1)).write(createRequest);
     }
-    
+
     @Test
-    void getWarriorById_WhenWarriorExists_ShouldReturnWarrior() {
+    void getWarriorJsonById_WhenWarriorExists_ShouldReturnItsJson() throws Exception {
         // Given
         UUID id = testWarrior.getId();
-        when(warriorRepository.findById(id)).thenReturn(Optional.of(testWarrior));
-        
+        when(readRepository.findById(id)).thenReturn(Optional.of(testWarrior));
+
         // When
-        WarriorResponse response = warriorService.getWarriorById(id);
-        
+        byte[] json = warriorService.getWarriorJsonById(id);
+
         // Then
-        assertThat(response).isNotNull();
-        assertThat(response.getId()).isEqualTo(id);
-        assertThat(response.getName()).isEqualTo("Achilles");
-        
-        verify(warriorRepository, times(1)).findById(id);
+        assertThat(objectMapper.readValue(json, WarriorResponse.class)).isEqualTo(testWarrior);
+
+        verify(readRepository, times(1)).findById(id);
     }
-    
+
     @Test
-    void getWarriorById_WhenWarriorNotFound_ShouldThrowException() {
+    void getWarriorJsonById_WhenWarriorNotFound_ShouldThrowException() {
         // Given
         UUID id = UUID.randomUUID();
-        when(warriorRepository.findById(id)).thenReturn(Optional.empty());
-        
+        when(readRepository.findById(id)).thenReturn(Optional.empty());
+
         // When & Then
-        assertThatThrownBy(() -> warriorService.getWarriorById(id))
+        assertThatThrownBy(() -> warriorService.getWarriorJsonById(id))
                 .isInstanceOf(WarriorNotFoundException.class)
                 .hasMessageContaining("Warrior not found with id: " + id);
-        
-        verify(warriorRepository, times(1)).findById(id);
+
+        verify(readRepository, times(1)).findById(id);
     }
-    
+
+    @Test
+    void getWarriorJsonById_AfterCreate_ShouldReturnBytesEncodedAtCreation() throws Exception {
+        // Given
+        WarriorLookupCache lookupCache = new WarriorLookupCache(new CacheProperties(), new SimpleMeterRegistry());
+        warriorService = new WarriorService(
+                readRepository, counterRepository, warriorWriter, jsonCodec,
+                SearchIndex.NONE, lookupCache, SearchResultCache.NONE, Coalescing.NONE, JdbcAdmission.UNLIMITED);
+        when(warriorWriter.write(createRequest)).thenReturn(testWarrior);
+        warriorService.createWarrior(createRequest);
+
+        // When
+        byte[] first = warriorService.getWarriorJsonById(testWarrior.getId());
+        byte[] second = warriorService.getWarriorJsonById(testWarrior.getId());
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(objectMapper.readValue(first, WarriorResponse.class)).isEqualTo(testWarrior);
+        verify(readRepository, never()).findById(any());
+    }
+
+    @Test
+    void createWarrior_WhenWriterAcknowledgesBeforeCommit_ShouldCacheOnlyOnceCommitted() {
+        // Given
+        WarriorLookupCache lookupCache = new WarriorLookupCache(new CacheProperties(), new SimpleMeterRegistry());
+        warriorService = new WarriorService(
+                readRepository, counterRepository, warriorWriter, jsonCodec,
+                SearchIndex.NONE, lookupCache, SearchResultCache.NONE, Coalescing.NONE, JdbcAdmission.UNLIMITED);
+        warriorService.listenForLateCommits();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<List<WarriorResponse>>> committed = ArgumentCaptor.forClass(Consumer.class);
+        verify(warriorWriter).onCommitted(committed.capture());
+        when(warriorWriter.acknowledgesBeforeCommit()).thenReturn(true);
+        when(warriorWriter.write(createRequest)).thenReturn(testWarrior);
+
+        // When
+        warriorService.createWarrior(createRequest);
+
+        // Then
+        assertThat(lookupCache.getJson(testWarrior.getId())).isEmpty();
+        committed.getValue().accept(List.of(testWarrior));
+        assertThat(lookupCache.getJson(testWarrior.getId())).isPresent();
+    }
+
+    @Test
+    void searchWarriorsJson_ShouldJoinEncodedMatchesIntoArray() {
+        // Given
+        when(readRepository.search("%achi%", 50)).thenReturn(List.of(testWarrior));
+
+        // When
+        byte[] json = warriorService.searchWarriorsJson("Achi");
+
+        // Then
+        assertThat(new String(json, StandardCharsets.UTF_8))
+                .isEqualTo("[" + new String(jsonCodec.encode(testWarrior), StandardCharsets.UTF_8) + "]");
+    }
+
     @Test
     void searchWarriors_WithTerm_ShouldReturnMatchingWarriors() {
         // Given
         String searchTerm = "Achi";
-        List<Warrior> warriors = Arrays.asList(testWarrior);
-        when(warriorRepository.searchByNameOrSkills(searchTerm)).thenReturn(warriors);
-        
+        when(readRepository.search("%achi%", 50)).thenReturn(List.of(testWarrior));
+
         // When
         List<WarriorResponse> responses = warriorService.searchWarriors(searchTerm);
-        
+
         // Then
         assertThat(responses).hasSize(1);
         assertThat(responses.get(0).getName()).isEqualTo("Achilles");
-        
-        verify(warriorRepository, times(1)).searchByNameOrSkills(searchTerm);
+
+        verify(readRepository, times(1)).search("%achi%", 50);
     }
-    
+
     @Test
-    void searchWarriors_WithoutTerm_ShouldReturnAllWarriors() {
-        // Given
-        List<Warrior> warriors = Arrays.asList(testWarrior);
-        when(warriorRepository.findAll()).thenReturn(warriors);
-        
-        // When
-        List<WarriorResponse> responses = warriorService.searchWarriors(null);
-        
-        // Then
-        assertThat(responses).hasSize(1);
-        
-        verify(warriorRepository, times(1)).findAll();
-        verify(warriorRepository, never()).searchByNameOrSkills(any());
+    void searchWarriors_WithoutTerm_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> warriorService.searchWarriors(null))
+                .isInstanceOf(InvalidSearchTermException.class);
+
+        verify(readRepository, never()).search(any(), anyInt());
     }
-    
+
     @Test
     void getWarriorCount_ShouldReturnCorrectCount() {
         // Given
-        when(warriorRepository.count()).thenReturn(5L);
-        
+        when(counterRepository.count()).thenReturn(5L);
+
         // When
         CountResponse response = warriorService.getWarriorCount();
-        
+
         // Then
         assertThat(response).isNotNull();
         assertThat(response.getCount()).isEqualTo(5L);
-        
-        verify(warriorRepository, times(1)).count();
+
+        verify(counterRepository, times(1)).count();
     }
 }
@@ -0,0 +1,85 @@
+package com.example.api.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties.Limit settings = new ConcurrencyLimitProperties.Limit();
+        settings.setInitialLimit(10);
+        settings.setMinLimit(2);
+        settings.setMaxLimit(20);
+        settings.setLatencyTarget(Duration.ofMillis(100));
+        limiter = new AdaptiveConcurrencyLimiter(settings, 0.5);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectOnceLimitIsInFlight() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // Then
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void release_WhenSlow_ShouldCutLimitOncePerLatencyTarget() {
+        // Given
+        long now = System.nanoTime();
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        // When
+        limiter.release(SLOW, false, now);
+        limiter.release(SLOW, false, now + 1);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void release_WhenFailed_ShouldNotGoBelowMinimum() {
+        // Given
+        long now = System.nanoTime();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            now += SLOW;
+            limiter.release(FAST, true, now);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_WhenFastAndBusy_ShouldGrowLimit() {
+        // When - keep the limiter at its limit and complete requests quickly
+        for (int i = 0; i < 200; i++) {
+            while (limiter.tryAcquire()) {
+                // fill up
+            }
+            limiter.release(FAST, false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+}
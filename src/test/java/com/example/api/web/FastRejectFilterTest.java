@@ -0,0 +1,84 @@
+package com.example.api.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastRejectFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FastRejectFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new FastRejectFilter(meterRegistry);
+    }
+
+    @Test
+    void search_WithoutTerm_ShouldBeRejectedBeforeDispatch() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/warrior");
+        request.setParameter("t", "  ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("Query parameter 't' is required");
+        assertThat(chain.getRequest()).isNull();
+        assertThat(meterRegistry.get("warrior.fast.rejections").tag("reason", "missing-term").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void search_WithTerm_ShouldPassThrough() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/warrior");
+        request.setParameter("t", "achi");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    void search_WithTermTrimKeeps_ShouldPassThrough() throws Exception {
+        // Given: trim() keeps U+3000, so the service searches for it rather than rejecting it
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/warrior");
+        request.setParameter("t", "\u3000");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    void create_WithoutBody_ShouldBeRejectedAsMalformed() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/warrior");
+        request.setContent(new byte[0]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains("Malformed JSON request");
+    }
+}
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Compares the two event store append paths with pgbench against the
+# docker-compose-cqrs eventstore-db service:
+#   sql/eventstore-append-serializable.sql - SELECT MAX(event_version) + INSERT at SERIALIZABLE
+#   sql/eventstore-append-constraint.sql   - single INSERT at READ COMMITTED
+# CLIENTS concurrent creators (default 32) for DURATION seconds (default 60) each.
+# Serialization failures are retried up to 10 times and reported per run.
+#
+# Both paths write to event_store_append_benchmark, a copy of event_store with the same
+# constraints and indexes but its own sequence. The outbox relay tails event_store, so
+# writing there would publish the benchmark rows and leave holes in sequence_number.
+
+CLIENTS=${CLIENTS:-32}
+DURATION=${DURATION:-60}
+POSTGRES_DB=${POSTGRES_DB:-eventstore}
+POSTGRES_USER=${POSTGRES_USER:-es_user}
+COMPOSE="docker compose -f ../../docker-compose-cqrs.yml"
+
+cd "$(dirname "$0")/sql"
+
+psql_eventstore() {
+    $COMPOSE exec -T eventstore-db psql -U "$POSTGRES_USER" -d "$POSTGRES_DB" -v ON_ERROR_STOP=1 "$@"
+}
+
+psql_eventstore -c "DROP TABLE IF EXISTS event_store_append_benchmark" \
+    -c "CREATE TABLE event_store_append_benchmark (LIKE event_store INCLUDING CONSTRAINTS INCLUDING INDEXES)" \
+    -c "ALTER TABLE event_store_append_benchmark ALTER COLUMN sequence_number ADD GENERATED BY DEFAULT AS IDENTITY"
+trap 'psql_eventstore -c "DROP TABLE IF EXISTS event_store_append_benchmark"' EXIT
+
+$COMPOSE exec -T eventstore-db mkdir -p /tmp/eventstore-append
+for f in eventstore-append-*.sql; do
+    $COMPOSE cp "$f" "eventstore-db:/tmp/eventstore-append/$f"
+done
+
+for mode in serializable constraint; do
+    echo "=== append-mode=$mode: $CLIENTS clients, ${DURATION}s ==="
+    # Each mode starts from an empty table
+    psql_eventstore -q -c "TRUNCATE event_store_append_benchmark"
+    $COMPOSE exec -T -w /tmp/eventstore-append eventstore-db \
+        pgbench -U "$POSTGRES_USER" -d "$POSTGRES_DB" -n -M extended \
+            -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" \
+            --max-tries=10 --failures-detailed \
+            -f "eventstore-append-$mode.sql"
+done
@@ -0,0 +1,40 @@
+set -euo pipefail
+
+# Runs the Gatling stress test once per ingest mode against a freshly
+# restarted app container, keeping each run's report in its own directory.
+#   jpa:          Hibernate saveAndFlush per request (the original path)
+#   jdbc:         plain JDBC transaction per request, UUIDv7 ids
+#   group-commit: concurrent creates batched into shared JDBC transactions
+
+cd "$(dirname "$0")"
+COMPOSE="docker compose -f ../docker-compose.yml"
+RESULTS_ROOT=${RESULTS_ROOT:-$PWD/user-files/results/ingest-modes}
+MODES=${MODES:-"jpa jdbc group-commit"}
+
+wait_healthy() {
+    for _ in $(seq 1 60); do
+        if curl -sf "${BASE_URL:-http://localhost}/health" > /dev/null; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "app did not become healthy" >&2
+    exit 1
+}
+
+for mode in $MODES; do
+    WARRIOR_INGEST_MODE=$mode $COMPOSE up -d --force-recreate app
+    wait_healthy
+
+    RESULTS_DIR="$RESULTS_ROOT/$mode" \
+    RUN_DESCRIPTION="ingest=$mode" \
+        sh ./run-test.sh
+
+    $COMPOSE exec -T postgres psql -U "${POSTGRES_USER:-warrior_user}" -d "${POSTGRES_DB:-warriors}" -c \
+        "CREATE EXTENSION IF NOT EXISTS pgstattuple;
+         SELECT '$mode' AS mode, pg_size_pretty(pg_relation_size('warriors_pkey')) AS pk_size,
+                avg_leaf_density, leaf_fragmentation
+         FROM pgstatindex('warriors_pkey');"
+done
+
+echo "Reports: $RESULTS_ROOT/<mode>"
@@ -0,0 +1,18 @@
+set -euo pipefail
+
+# Runs sql/search-benchmark.sql against the docker-compose postgres service.
+# ROWS controls the number of generated warriors (default 1,000,000).
+
+ROWS=${ROWS:-1000000}
+POSTGRES_DB=${POSTGRES_DB:-warriors}
+POSTGRES_USER=${POSTGRES_USER:-warrior_user}
+
+cd "$(dirname "$0")/sql"
+
+docker compose -f ../../docker-compose.yml exec -T postgres mkdir -p /tmp/search-benchmark
+for f in search-benchmark*.sql; do
+    docker compose -f ../../docker-compose.yml cp "$f" "postgres:/tmp/search-benchmark/$f"
+done
+
+docker compose -f ../../docker-compose.yml exec -T -w /tmp/search-benchmark postgres \
+    psql -U "$POSTGRES_USER" -d "$POSTGRES_DB" -v rows="$ROWS" -f search-benchmark.sql
@@ -0,0 +1,42 @@
+set -euo pipefail
+
+# Runs the Gatling stress test once per threading model against a freshly
+# restarted app container, keeping each run's report in its own directory.
+#   platform: Tomcat worker pool, no JDBC governor (current default)
+#   virtual:  virtual thread per request + fair JDBC governor
+
+cd "$(dirname "$0")"
+COMPOSE="docker compose -f ../docker-compose.yml"
+RESULTS_ROOT=${RESULTS_ROOT:-$PWD/user-files/results/thread-modes}
+
+wait_healthy() {
+    for _ in $(seq 1 60); do
+        if curl -sf "${BASE_URL:-http://localhost}/health" > /dev/null; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "app did not become healthy" >&2
+    exit 1
+}
+
+run_mode() {
+    mode=$1
+    governor=$2
+
+    WARRIOR_THREAD_MODE=$mode WARRIOR_JDBC_GOVERNOR_ENABLED=$governor \
+        $COMPOSE up -d --force-recreate app
+    wait_healthy
+
+    RESULTS_DIR="$RESULTS_ROOT/$mode" \
+    RUN_DESCRIPTION="threads=$mode jdbc-governor=$governor" \
+        sh ./run-test.sh
+
+    curl -s "${BASE_URL:-http://localhost}/actuator/metrics/hikaricp.connections.pending" || true
+    echo
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo "Reports: $RESULTS_ROOT/platform and $RESULTS_ROOT/virtual"
@@ -0,0 +1,14 @@
+set -euo pipefail
+
+# Runs sql/uuid-insert-benchmark.sql against the docker-compose postgres service.
+# ROWS controls the number of warriors inserted per key type (default 1,000,000).
+
+ROWS=${ROWS:-1000000}
+POSTGRES_DB=${POSTGRES_DB:-warriors}
+POSTGRES_USER=${POSTGRES_USER:-warrior_user}
+
+cd "$(dirname "$0")/sql"
+
+docker compose -f ../../docker-compose.yml cp uuid-insert-benchmark.sql postgres:/tmp/uuid-insert-benchmark.sql
+docker compose -f ../../docker-compose.yml exec -T postgres \
+    psql -U "$POSTGRES_USER" -d "$POSTGRES_DB" -v rows="$ROWS" -f /tmp/uuid-insert-benchmark.sql
@@ -0,0 +1,9 @@
+-- pgbench transaction: the constraint-guarded append path
+-- (eventstore.append-mode=constraint): one INSERT at READ COMMITTED, no version read.
+-- Writes to the scratch copy the runner creates, never to event_store itself
+SELECT gen_random_uuid() AS aggregate \gset
+INSERT INTO event_store_append_benchmark
+    (event_id, aggregate_id, aggregate_type, event_type, event_version, event_data, created_at)
+VALUES
+    (gen_random_uuid(), :aggregate::uuid, 'Warrior', 'WarriorCreated', 1,
+     '{"name":"append-benchmark","dob":"1990-01-01","fightSkills":["Archery"]}', now());
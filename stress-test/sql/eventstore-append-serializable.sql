@@ -0,0 +1,12 @@
+-- pgbench transaction: the original PostgresEventStore append path
+-- (eventstore.append-mode=serializable): version read, then insert, at SERIALIZABLE.
+-- Writes to the scratch copy the runner creates, never to event_store itself
+SELECT gen_random_uuid() AS aggregate \gset
+BEGIN ISOLATION LEVEL SERIALIZABLE;
+SELECT MAX(event_version) FROM event_store_append_benchmark WHERE aggregate_id = :aggregate::uuid;
+INSERT INTO event_store_append_benchmark
+    (event_id, aggregate_id, aggregate_type, event_type, event_version, event_data, created_at)
+VALUES
+    (gen_random_uuid(), :aggregate::uuid, 'Warrior', 'WarriorCreated', 1,
+     '{"name":"append-benchmark","dob":"1990-01-01","fightSkills":["Archery"]}', now());
+END;
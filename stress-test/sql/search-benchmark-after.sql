@@ -0,0 +1,9 @@
+-- WarriorRepository.searchByNameOrSkills (native)
+EXPLAIN (ANALYZE, BUFFERS, TIMING OFF)
+SELECT hits.id FROM (
+    (SELECT w.id FROM warriors w
+     WHERE lower(w.name) LIKE :pattern ESCAPE '\' LIMIT 50)
+    UNION
+    (SELECT s.warrior_id FROM warrior_fight_skills s
+     WHERE lower(s.skill) LIKE :pattern ESCAPE '\' LIMIT 50)
+) hits LIMIT 50;
@@ -0,0 +1,8 @@
+-- SQL Hibernate generated for the old searchByNameOrSkills JPQL with PageRequest.of(0, 50)
+EXPLAIN (ANALYZE, BUFFERS, TIMING OFF)
+SELECT DISTINCT w.id, w.created_at, w.dob, w.name, w.updated_at
+FROM warriors w
+LEFT JOIN warrior_fight_skills s ON w.id = s.warrior_id
+WHERE lower(w.name) LIKE :pattern
+   OR lower(s.skill) LIKE :pattern
+OFFSET 0 ROWS FETCH FIRST 50 ROWS ONLY;
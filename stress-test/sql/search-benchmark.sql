@@ -0,0 +1,90 @@
+-- Before/after latency of the GET /warrior?t= query at 1M warriors
+--
+-- Builds a throw-away copy of the warriors schema in search_bench, fills it
+-- the way generate_resources.py does (random names, 1-26 of 25 styles each),
+-- then times the old JPQL search and the new native search, first without
+-- and then with the pg_trgm indexes from V2__trigram_search_indexes.sql.
+--
+-- Usage: ./run-search-benchmark.sh   (or psql -f search-benchmark.sql)
+
+\set ON_ERROR_STOP on
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP SCHEMA IF EXISTS search_bench CASCADE;
+CREATE SCHEMA search_bench;
+SET search_path TO search_bench;
+
+CREATE TABLE warriors (
+    id UUID PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    dob DATE NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_warrior_name ON warriors(name);
+
+CREATE TABLE warrior_fight_skills (
+    warrior_id UUID NOT NULL REFERENCES warriors(id),
+    skill VARCHAR(255)
+);
+
+-- :rows warriors (1M by default), ~13 skill rows each
+INSERT INTO warriors (id, name, dob, created_at, updated_at)
+SELECT gen_random_uuid(),
+       left(translate(md5(random()::text) || md5(random()::text) || md5(random()::text) ||
+                      md5(random()::text), '0123456789', 'ghijklmnop'),
+            1 + (random() * 99)::int),
+       DATE '1940-01-01' + (random() * 29000)::int,
+       now(), now()
+FROM generate_series(1, :rows);
+
+INSERT INTO warrior_fight_skills (warrior_id, skill)
+SELECT w.id,
+       (ARRAY['BJJ','Karate','Judo','KungFu','Capoeira','Boxing','Taekwondo','Aikido',
+              'KravMaga','MuayThai','KickBoxing','Pankration','Wrestling','Sambo','Savate',
+              'Sumo','Kendo','Hapkido','LutaLivre','WingChu','Ninjutsu','Fencing',
+              'ArmWrestling','SuckerPunch','44Magnum'])[1 + (random() * 24)::int]
+FROM warriors w
+-- the WHERE correlates the subquery so the skill count is drawn per warrior
+CROSS JOIN LATERAL (SELECT generate_series(1, 1 + (random() * 25)::int) WHERE w.id IS NOT NULL) AS n;
+
+ANALYZE warriors;
+ANALYZE warrior_fight_skills;
+
+-- Terms: a name fragment (~1% of names), a common skill, and a term with no match
+\set name_term '''%hfk%'''
+\set skill_term '''%karate%'''
+\set miss_term '''%zzzzzz%'''
+
+\echo '==== BEFORE: old JPQL (DISTINCT + LEFT JOIN + OR), b-tree only ===='
+
+\set pattern :name_term
+\i search-benchmark-before.sql
+\set pattern :skill_term
+\i search-benchmark-before.sql
+\set pattern :miss_term
+\i search-benchmark-before.sql
+
+\echo '==== Building pg_trgm GIN indexes (V2__trigram_search_indexes.sql) ===='
+
+CREATE INDEX idx_warrior_name_trgm
+    ON warriors USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_warrior_fight_skills_skill_trgm
+    ON warrior_fight_skills USING gin (lower(skill) gin_trgm_ops);
+CREATE INDEX idx_warrior_fight_skills_warrior
+    ON warrior_fight_skills(warrior_id);
+ANALYZE warriors;
+ANALYZE warrior_fight_skills;
+
+\echo '==== AFTER: native UNION query with per-branch LIMIT ===='
+
+\set pattern :name_term
+\i search-benchmark-after.sql
+\set pattern :skill_term
+\i search-benchmark-after.sql
+\set pattern :miss_term
+\i search-benchmark-after.sql
+
+RESET search_path;
@@ -0,0 +1,76 @@
+-- Random (v4) vs time-ordered (v7) primary keys: insert time and b-tree health.
+-- Usage: psql -v rows=1000000 -f uuid-insert-benchmark.sql
+-- Works in a scratch schema; the application tables are never touched.
+
+\set ON_ERROR_STOP on
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+DROP SCHEMA IF EXISTS uuid_bench CASCADE;
+CREATE SCHEMA uuid_bench;
+SET search_path = uuid_bench, public;
+-- psql variables are not expanded inside DO bodies
+SELECT set_config('uuid_bench.rows', :'rows', false);
+
+-- SQL rendition of com.example.shared.ids.UuidV7: epoch millis in the first
+-- 48 bits of a random UUID, version nibble turned from 4 into 7
+CREATE FUNCTION uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                    PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                    FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+CREATE TABLE warriors_v4 (
+    id UUID PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    dob DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+CREATE TABLE warriors_v7 (LIKE warriors_v4 INCLUDING ALL);
+
+-- Rows arrive in many small transactions, like POST /warrior, so the key
+-- order of each batch matters; 200 rows per batch matches group commit
+\echo '== insert, v4 (gen_random_uuid) =='
+DO $$
+BEGIN
+    FOR batch IN 1 .. current_setting('uuid_bench.rows')::int / 200 LOOP
+        INSERT INTO uuid_bench.warriors_v4
+        SELECT gen_random_uuid(), md5(random()::text), DATE '1970-01-01' + (random() * 15000)::int, now(), now()
+        FROM generate_series(1, 200);
+        COMMIT;
+    END LOOP;
+END $$;
+
+\echo '== insert, v7 =='
+DO $$
+BEGIN
+    FOR batch IN 1 .. current_setting('uuid_bench.rows')::int / 200 LOOP
+        INSERT INTO uuid_bench.warriors_v7
+        SELECT uuid_bench.uuid_v7(), md5(random()::text), DATE '1970-01-01' + (random() * 15000)::int, now(), now()
+        FROM generate_series(1, 200);
+        COMMIT;
+    END LOOP;
+END $$;
+
+\timing off
+
+\echo '== primary key index size and density =='
+SELECT 'v4' AS ids,
+       pg_size_pretty(pg_relation_size('warriors_v4_pkey')) AS index_size,
+       s.avg_leaf_density,
+       s.leaf_fragmentation
+FROM pgstatindex('warriors_v4_pkey') s
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('warriors_v7_pkey')),
+       s.avg_leaf_density,
+       s.leaf_fragmentation
+FROM pgstatindex('warriors_v7_pkey') s;
+
+DROP SCHEMA uuid_bench CASCADE;